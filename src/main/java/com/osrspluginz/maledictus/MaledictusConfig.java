@@ -3,6 +3,7 @@ package com.osrspluginz.maledictus;
 import net.runelite.client.config.Config;
 import net.runelite.client.config.ConfigGroup;
 import net.runelite.client.config.ConfigItem;
+import net.runelite.client.config.Range;
 
 @ConfigGroup("maledictus")
 public interface MaledictusConfig extends Config
@@ -17,6 +18,40 @@ public interface MaledictusConfig extends Config
         return true;
     }
 
+    @Range(max = 10)
+    @ConfigItem(
+            keyName = "overlayWorldCount",
+            position = 1,
+            name = "Overlay World List",
+            description = "Number of other worlds to list in the overlay below the current world (0 to disable)"
+    )
+    default int overlayWorldCount()
+    {
+        return 0;
+    }
+
+    @ConfigItem(
+            keyName = "overlayWorldListMode",
+            position = 2,
+            name = "Overlay List Mode",
+            description = "List the worlds closest to eligibility, or the ones that most recently became eligible"
+    )
+    default OverlayListMode overlayWorldListMode()
+    {
+        return OverlayListMode.SOONEST;
+    }
+
+    @ConfigItem(
+            keyName = "refreshMode",
+            position = 6,
+            name = "Refresh Mode",
+            description = "Real-time refreshes every second. Balanced slows down while the client is unfocused or logged out. Low power refreshes rarely, e.g. when multi-boxing on one machine."
+    )
+    default RefreshMode refreshMode()
+    {
+        return RefreshMode.BALANCED;
+    }
+
     // NEW HOPPER CONFIG
     @ConfigItem(
             keyName = "worldHopperEnabled",
@@ -28,4 +63,60 @@ public interface MaledictusConfig extends Config
     {
         return true;
     }
-}
\ No newline at end of file
+
+    @ConfigItem(
+            keyName = "notifyRedWindow",
+            position = 4,
+            name = "Notify Watched: 15m Left",
+            description = "Sends a notification when a watched world enters the last 15 minutes before eligibility. Right-click a world in the panel to watch it."
+    )
+    default boolean notifyRedWindow()
+    {
+        return true;
+    }
+
+    @ConfigItem(
+            keyName = "notifyEligible",
+            position = 5,
+            name = "Notify Watched: Eligible",
+            description = "Sends a notification when a watched world becomes eligible for a Maledictus spawn"
+    )
+    default boolean notifyEligible()
+    {
+        return true;
+    }
+
+    @ConfigItem(
+            keyName = "httpServerEnabled",
+            position = 7,
+            name = "Local Timer Server",
+            description = "Serves the timers as JSON (/timers) and a live event stream (/events) on this computer only, e.g. for OBS browser sources"
+    )
+    default boolean httpServerEnabled()
+    {
+        return false;
+    }
+
+    @Range(min = 1024, max = 65535)
+    @ConfigItem(
+            keyName = "httpServerPort",
+            position = 8,
+            name = "Local Timer Server Port",
+            description = "Port of the local timer server (http://127.0.0.1:port/timers)"
+    )
+    default int httpServerPort()
+    {
+        return 8765;
+    }
+
+    @ConfigItem(
+            keyName = WorldWatchNotifier.WATCHED_WORLDS_KEY,
+            name = "",
+            description = "",
+            hidden = true
+    )
+    default String watchedWorlds()
+    {
+        return "";
+    }
+}
@@ -3,20 +3,34 @@ package com.osrspluginz.maledictus;
 import net.runelite.api.Client;
 import net.runelite.client.ui.overlay.OverlayPanel;
 import net.runelite.client.ui.overlay.OverlayPosition;
-import net.runelite.client.ui.overlay.components.ImageComponent;
 import net.runelite.client.ui.overlay.components.LineComponent;
 import net.runelite.client.util.ColorUtil;
 
 import javax.inject.Inject;
 import java.awt.*;
-import java.awt.image.BufferedImage;
+import java.time.Instant;
+import java.util.List;
 // Removed: import java.time.Duration;
 
 public class MaledictusOverlay extends OverlayPanel
 {
+    // Upper bound of the overlayWorldCount config range
+    private static final int MAX_LISTED_WORLDS = 10;
+
     private final MaledictusPlugin plugin;
     private final Client client;
 
+    // Line components are created once and only have their text/colors updated
+    private final LineComponent currentWorldLine = LineComponent.builder().build();
+    private final LineComponent[] worldLines = new LineComponent[MAX_LISTED_WORLDS];
+    private final WorldTimerSelector selector = new WorldTimerSelector();
+
+    // The displayed text can only change once per second (or per governor bucket), or when a timer or the selection changes
+    private long lastTextBucket = Long.MIN_VALUE;
+    private int lastTextWorld = -1;
+    private int lastTextVersion = -1;
+    private int listedWorlds;
+
     @Inject
     public MaledictusOverlay(MaledictusPlugin plugin, Client client)
     {
@@ -24,6 +38,11 @@ public class MaledictusOverlay extends OverlayPanel
         this.plugin = plugin;
         this.client = client;
         setPosition(OverlayPosition.TOP_LEFT);
+
+        for (int i = 0; i < worldLines.length; i++)
+        {
+            worldLines[i] = LineComponent.builder().build();
+        }
     }
 
     private Color getTimerColor(long remaining)
@@ -49,9 +68,14 @@ public class MaledictusOverlay extends OverlayPanel
     {
         if (!plugin.getConfig().showOverlay()) return null;
 
+        int currentWorld = client.getWorld();
+
+        // One snapshot per frame, so the current world, the listed worlds and the version all agree
+        TimerStore.Snapshot snapshot = plugin.getTimerSnapshot();
+
         // Use the plugin's new logic to get the timer, which returns a 'No Data' timer
         // if the world is not explicitly tracked (e.g., F2P world or untracked member world).
-        MaledictusPlugin.WorldTimer timer = plugin.getWorldTimer(client.getWorld());
+        MaledictusPlugin.WorldTimer timer = plugin.getWorldTimer(snapshot, currentWorld);
 
         // If the client's world is not available, skip rendering.
         if (timer == null)
@@ -59,42 +83,98 @@ public class MaledictusOverlay extends OverlayPanel
             return null;
         }
 
-        long secondsLeft = timer.secondsLeft();
-        String timeText = timer.getDisplayText();
-        Color timeColor = getTimerColor(secondsLeft);
-        BufferedImage skullImage = timer.getSkullIcon(plugin);
-        String worldText = "W" + client.getWorld();
+        Instant now = Instant.now();
+        int version = snapshot.getVersion();
+        boolean selectionChanged = updateSelection(snapshot, currentWorld, now);
+
+        RefreshGovernor governor = plugin.getRefreshGovernor();
+        long bucket = governor != null ? governor.getOverlayTextBucket(now.getEpochSecond()) : now.getEpochSecond();
+        if (bucket != lastTextBucket || currentWorld != lastTextWorld || version != lastTextVersion || selectionChanged)
+        {
+            lastTextBucket = bucket;
+            lastTextWorld = currentWorld;
+            lastTextVersion = version;
+            updateLines(timer);
+        }
 
         panelComponent.getChildren().clear();
 
         // 1. Add Skull Icon
-        if (skullImage != null)
+        SkullIconCache skullIcons = plugin.getSkullIcons();
+        if (skullIcons != null)
         {
-            panelComponent.getChildren().add(new ImageComponent(skullImage));
+            panelComponent.getChildren().add(skullIcons.getOverlayComponent(timer.getSkull()));
         }
 
         // 2. Add World ID and Timer on a single line
+        panelComponent.getChildren().add(currentWorldLine);
+
+        // 3. Add the other worlds picked by the configured list mode
+        for (int i = 0; i < listedWorlds; i++)
+        {
+            panelComponent.getChildren().add(worldLines[i]);
+        }
+
+        return super.render(graphics);
+    }
+
+    /**
+     * Re-runs the world selection only if it is stale. Returns true if the listed worlds may have changed.
+     */
+    private boolean updateSelection(TimerStore.Snapshot snapshot, int currentWorld, Instant now)
+    {
+        int version = snapshot.getVersion();
+        int limit = Math.min(plugin.getConfig().overlayWorldCount(), MAX_LISTED_WORLDS);
+        OverlayListMode mode = plugin.getConfig().overlayWorldListMode();
+
+        if (limit <= 0)
+        {
+            listedWorlds = 0;
+            return false;
+        }
+
+        if (!selector.isStale(version, limit, mode, currentWorld, now))
+        {
+            return false;
+        }
+
+        selector.select(snapshot.getTimers(), version, limit, mode, currentWorld, now);
+        listedWorlds = selector.getSelected().size();
+        return true;
+    }
+
+    private void updateLines(MaledictusPlugin.WorldTimer timer)
+    {
+        setLine(currentWorldLine, timer);
+
+        List<MaledictusPlugin.WorldTimer> selected = selector.getSelected();
+        for (int i = 0; i < listedWorlds; i++)
+        {
+            setLine(worldLines[i], selected.get(i));
+        }
+    }
+
+    private void setLine(LineComponent line, MaledictusPlugin.WorldTimer timer)
+    {
+        long secondsLeft = timer.secondsLeft();
+        String worldText = "W" + timer.getWorld();
+
         if (secondsLeft == Long.MAX_VALUE)
         {
             // Handle the 'No Data' state explicitly
-            panelComponent.getChildren().add(LineComponent.builder()
-                    .left(worldText)
-                    .leftColor(Color.LIGHT_GRAY)
-                    .right("No Data")
-                    .rightColor(Color.LIGHT_GRAY)
-                    .build());
+            line.setLeft(worldText);
+            line.setLeftColor(Color.LIGHT_GRAY);
+            line.setRight("No Data");
+            line.setRightColor(Color.LIGHT_GRAY);
         }
         else
         {
             // Display the countdown/elapsed time
-            panelComponent.getChildren().add(LineComponent.builder()
-                    .left(worldText)
-                    .leftColor(timeColor) // Color the World ID
-                    .right(ColorUtil.prependColorTag(timeText, timeColor))
-                    .rightColor(timeColor) // Color the Timer
-                    .build());
+            Color timeColor = getTimerColor(secondsLeft);
+            line.setLeft(worldText);
+            line.setLeftColor(timeColor); // Color the World ID
+            line.setRight(ColorUtil.prependColorTag(timer.getDisplayText(), timeColor));
+            line.setRightColor(timeColor); // Color the Timer
         }
-
-        return super.render(graphics);
     }
-}
\ No newline at end of file
+}
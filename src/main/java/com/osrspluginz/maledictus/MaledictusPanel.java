@@ -6,34 +6,66 @@ import net.runelite.client.ui.PluginPanel;
 import javax.inject.Inject;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
+import java.awt.datatransfer.StringSelection;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class MaledictusPanel extends PluginPanel
 {
     private final MaledictusPlugin plugin;
 
-    private final com.osrspluginz.maledictus.FixedWidthPanel listContainer = new com.osrspluginz.maledictus.FixedWidthPanel();
+    // Everything below is created by buildContents() the first time the panel is opened
+    private boolean built;
+
+    private com.osrspluginz.maledictus.FixedWidthPanel listContainer;
     private final GridBagConstraints constraints = new GridBagConstraints();
+    // Rows are reused between refreshes; only worlds reported as changed are rebuilt
+    private final Map<Integer, MaledictusTimerRow> rows = new HashMap<>();
+    private final List<MaledictusTimerRow> listedRows = new ArrayList<>();
+    // Always the last component of the list: takes up the spare height, and says why the list is empty
+    private JLabel filler;
+
+    // Dense alternative to the rows, swapped into the scroll pane while "Compact grid" is ticked
+    private WorldGridView gridView;
+    private JScrollPane scrollPane;
 
-    private final JCheckBox showClosestCheck;
-    private final JCheckBox showOverlayCheck;
+    private JCheckBox showClosestCheck;
+    private JCheckBox showOverlayCheck;
+    private JCheckBox showGridCheck;
+
+    // Filters
+    private JComboBox<WorldIndex.TypeFilter> typeFilter;
+    private JComboBox<WorldIndex.StateFilter> stateFilter;
+    private JTextField searchInput;
 
     // Manual Entry Inputs
-    private final JTextField worldInput;
-    private final JTextField timeInput;
+    private JTextField worldInput;
+    private JTextField timeInput;
 
     @Inject
     public MaledictusPanel(MaledictusPlugin plugin)
     {
         this.plugin = plugin;
 
-        // 1. Panel Setup
+        // 1. Panel Setup (contents are deferred until the panel is first opened)
         setBorder(new EmptyBorder(10, 5, 10, 5));
         setBackground(ColorScheme.DARK_GRAY_COLOR);
         setLayout(new BorderLayout());
+    }
+
+    private void buildContents()
+    {
+        built = true;
 
         // --- Top Container (Holds Header + Manual Entry) ---
         JPanel topContainer = new JPanel();
@@ -60,14 +92,75 @@ public class MaledictusPanel extends PluginPanel
         // Sort by Closest Spawns Checkbox
         hConstraints.gridy = 1;
         showClosestCheck = new JCheckBox("Sort by Closest Spawn");
+        showClosestCheck.setToolTipText("Eligible worlds are ranked by revenant kills seen since they became eligible");
         showClosestCheck.setForeground(Color.WHITE);
         showClosestCheck.setBackground(ColorScheme.DARK_GRAY_COLOR);
         showClosestCheck.setOpaque(false);
         headerPanel.add(showClosestCheck, hConstraints);
 
+        // Compact Grid Checkbox
+        hConstraints.gridy = 2;
+        showGridCheck = new JCheckBox("Compact grid");
+        showGridCheck.setToolTipText("Show every world as a small tile; double-click a tile to hop");
+        showGridCheck.setForeground(Color.WHITE);
+        showGridCheck.setBackground(ColorScheme.DARK_GRAY_COLOR);
+        showGridCheck.setOpaque(false);
+        showGridCheck.addActionListener(e ->
+        {
+            scrollPane.setViewportView(showGridCheck.isSelected() ? gridView : listContainer);
+            updatePanel();
+        });
+        headerPanel.add(showGridCheck, hConstraints);
+
         headerPanel.setBorder(new EmptyBorder(0, 0, 5, 0));
         topContainer.add(headerPanel);
 
+        // --- Filter Panel (World type / state / world number) ---
+        JPanel filterPanel = new JPanel(new GridLayout(2, 2, 4, 4));
+        filterPanel.setBackground(ColorScheme.DARK_GRAY_COLOR);
+        filterPanel.setBorder(new EmptyBorder(0, 0, 10, 0));
+
+        typeFilter = new JComboBox<>(WorldIndex.TypeFilter.values());
+        typeFilter.setFocusable(false);
+        typeFilter.addActionListener(e -> updatePanel());
+        filterPanel.add(typeFilter);
+
+        stateFilter = new JComboBox<>(WorldIndex.StateFilter.values());
+        stateFilter.setFocusable(false);
+        stateFilter.addActionListener(e -> updatePanel());
+        filterPanel.add(stateFilter);
+
+        JLabel searchLabel = new JLabel("Find world:");
+        searchLabel.setForeground(Color.WHITE);
+        filterPanel.add(searchLabel);
+
+        searchInput = new JTextField();
+        searchInput.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+        searchInput.setForeground(Color.WHITE);
+        searchInput.getDocument().addDocumentListener(new DocumentListener()
+        {
+            @Override
+            public void insertUpdate(DocumentEvent e)
+            {
+                updatePanel();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e)
+            {
+                updatePanel();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e)
+            {
+                updatePanel();
+            }
+        });
+        filterPanel.add(searchInput);
+
+        topContainer.add(filterPanel);
+
         // --- Manual Entry Panel ---
         JPanel manualEntryPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 4, 0));
         manualEntryPanel.setBackground(ColorScheme.DARK_GRAY_COLOR);
@@ -103,11 +196,37 @@ public class MaledictusPanel extends PluginPanel
 
         topContainer.add(manualEntryPanel);
 
+        // --- Bulk Import / Export Panel ---
+        JPanel bulkPanel = new JPanel(new GridLayout(1, 3, 4, 0));
+        bulkPanel.setBackground(ColorScheme.DARK_GRAY_COLOR);
+        bulkPanel.setBorder(new EmptyBorder(0, 0, 10, 0));
+
+        final JButton importButton = new JButton("Import");
+        importButton.setToolTipText("Paste timers such as \"W302 12m, W330 40m\" or a share code");
+        importButton.setFocusable(false);
+        importButton.addActionListener(e -> importTimers());
+        bulkPanel.add(importButton);
+
+        final JButton exportButton = new JButton("Export");
+        exportButton.setToolTipText("Copy a share code with all known timers to the clipboard");
+        exportButton.setFocusable(false);
+        exportButton.addActionListener(e -> exportTimers());
+        bulkPanel.add(exportButton);
+
+        final JButton eventsButton = new JButton("Events");
+        eventsButton.setToolTipText("Show the timeline of recent spawns, timer changes and hops");
+        eventsButton.setFocusable(false);
+        eventsButton.addActionListener(e -> showEvents());
+        bulkPanel.add(eventsButton);
+
+        topContainer.add(bulkPanel);
+
         // Add the top container to the North
         add(topContainer, BorderLayout.NORTH);
 
 
         // --- List Container Setup (Center) ---
+        listContainer = new com.osrspluginz.maledictus.FixedWidthPanel();
         listContainer.setLayout(new GridBagLayout());
         listContainer.setBackground(ColorScheme.DARK_GRAY_COLOR);
 
@@ -116,7 +235,19 @@ public class MaledictusPanel extends PluginPanel
         constraints.gridx = 0;
         constraints.insets = new Insets(2, 0, 2, 0);
 
-        JScrollPane scrollPane = new JScrollPane(listContainer);
+        // Rows are placed in component order, so they can be inserted, moved and removed by index
+        constraints.gridy = GridBagConstraints.RELATIVE;
+        constraints.weighty = 0;
+
+        GridBagConstraints fillerConstraints = (GridBagConstraints) constraints.clone();
+        fillerConstraints.weighty = 1;
+        filler = new JLabel();
+        filler.setForeground(ColorScheme.LIGHT_GRAY_COLOR);
+        listContainer.add(filler, fillerConstraints);
+
+        gridView = new WorldGridView(plugin);
+
+        scrollPane = new JScrollPane(listContainer);
         scrollPane.setHorizontalScrollBarPolicy(ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
         scrollPane.setBorder(new EmptyBorder(0, 0, 0, 15));
         scrollPane.setBackground(ColorScheme.DARK_GRAY_COLOR);
@@ -126,7 +257,7 @@ public class MaledictusPanel extends PluginPanel
 
         add(scrollPane, BorderLayout.CENTER);
 
-        updatePanel();
+        revalidate();
     }
 
     private void addManualTimer()
@@ -154,59 +285,258 @@ public class MaledictusPanel extends PluginPanel
         }
     }
 
+    private void importTimers()
+    {
+        String text = JOptionPane.showInputDialog(this,
+                "Paste timers (e.g. W302 12m, W330 40m, W416 +3m) or a share code:",
+                "Import Maledictus Timers",
+                JOptionPane.PLAIN_MESSAGE);
+
+        if (text == null || text.trim().isEmpty())
+        {
+            return;
+        }
+
+        try
+        {
+            int count = plugin.importTimers(TimerShareCodec.parse(text, Instant.now()));
+            if (count == 0)
+            {
+                JOptionPane.showMessageDialog(this, "No timers found in the pasted text.", "Import Maledictus Timers", JOptionPane.WARNING_MESSAGE);
+            }
+        }
+        catch (IllegalArgumentException ex)
+        {
+            JOptionPane.showMessageDialog(this, ex.getMessage(), "Import Maledictus Timers", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    private void exportTimers()
+    {
+        String code = plugin.exportTimers();
+        Toolkit.getDefaultToolkit().getSystemClipboard().setContents(new StringSelection(code), null);
+        JOptionPane.showMessageDialog(this, "Share code copied to clipboard.", "Export Maledictus Timers", JOptionPane.INFORMATION_MESSAGE);
+    }
+
+    private void showEvents()
+    {
+        String events = plugin.getEventRecorder().format(SpawnEventRecorder.CAPACITY);
+
+        JTextArea textArea = new JTextArea(events.isEmpty() ? "No events recorded yet." : events, 20, 60);
+        textArea.setEditable(false);
+        textArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        textArea.setCaretPosition(0);
+
+        Object[] options = {"Save to file", "Close"};
+        int choice = JOptionPane.showOptionDialog(this, new JScrollPane(textArea), "Maledictus Event Timeline",
+                JOptionPane.DEFAULT_OPTION, JOptionPane.PLAIN_MESSAGE, null, options, options[1]);
+        if (choice != 0)
+        {
+            return;
+        }
+
+        try
+        {
+            Path file = plugin.dumpEvents();
+            JOptionPane.showMessageDialog(this, "Events saved to " + file, "Maledictus Event Timeline", JOptionPane.INFORMATION_MESSAGE);
+        }
+        catch (IOException ex)
+        {
+            JOptionPane.showMessageDialog(this, "Could not save events: " + ex.getMessage(), "Maledictus Event Timeline", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    // Digits typed in the search box, or empty to match all worlds
+    private String getSearchText()
+    {
+        String text = searchInput.getText().trim();
+        if (text.length() > 1 && (text.charAt(0) == 'w' || text.charAt(0) == 'W'))
+        {
+            text = text.substring(1);
+        }
+
+        for (int i = 0; i < text.length(); i++)
+        {
+            if (!Character.isDigit(text.charAt(i)))
+            {
+                return "";
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Orders worlds by time left; eligible worlds are weighted by the revenant kills seen since they became
+     * eligible, as more kills means the spawn chance has had more opportunity to roll.
+     */
+    private Comparator<MaledictusPlugin.WorldTimer> closestSpawnComparator()
+    {
+        RevenantActivity activity = plugin.getActivity();
+        return (a, b) ->
+        {
+            long remainingA = a.secondsLeft();
+            long remainingB = b.secondsLeft();
+
+            if (remainingA <= 0 && remainingB <= 0)
+            {
+                int byPressure = Integer.compare(activity.getPressure(b.getWorld()), activity.getPressure(a.getWorld()));
+                if (byPressure != 0)
+                {
+                    return byPressure;
+                }
+            }
+
+            return Long.compare(remainingA, remainingB);
+        };
+    }
+
+    @Override
+    public void onActivate()
+    {
+        if (!built)
+        {
+            buildContents();
+        }
+
+        RefreshGovernor governor = plugin.getRefreshGovernor();
+        if (governor != null)
+        {
+            governor.setPanelOpen(true);
+        }
+        updatePanel();
+    }
+
+    @Override
+    public void onDeactivate()
+    {
+        RefreshGovernor governor = plugin.getRefreshGovernor();
+        if (governor != null)
+        {
+            governor.setPanelOpen(false);
+        }
+    }
+
+    /**
+     * Drops the cached rows of worlds changed by a world list reconciliation. The refresh that follows the
+     * reconciliation's snapshot rebuilds them if they are still listed, and removes the old rows from the list.
+     */
+    public void removeRows(BitSet worlds)
+    {
+        for (int world = worlds.nextSetBit(0); world >= 0; world = worlds.nextSetBit(world + 1))
+        {
+            rows.remove(world);
+        }
+    }
+
     public void updatePanel()
     {
-        listContainer.removeAll();
+        if (!built)
+        {
+            return; // Nothing to refresh until the panel has been opened
+        }
+
+        // One snapshot, so the index never caches these timers under a newer version
+        TimerStore.Snapshot snapshot = plugin.getTimerSnapshot();
+        List<MaledictusPlugin.WorldTimer> timers = snapshot.getTimers();
 
-        List<MaledictusPlugin.WorldTimer> timers = plugin.getAllWorldTimers();
+        // Filters are resolved as bitset intersections over the plugin's world index
+        BitSet visible = plugin.getWorldIndex().filter(timers, snapshot.getVersion(), Instant.now(),
+                (WorldIndex.TypeFilter) typeFilter.getSelectedItem(),
+                (WorldIndex.StateFilter) stateFilter.getSelectedItem(),
+                getSearchText());
 
-        // OPTIMIZED: Replaced stream() with ArrayList constructor
-        List<MaledictusPlugin.WorldTimer> sortedTimers = new ArrayList<>(timers);
+        List<MaledictusPlugin.WorldTimer> sortedTimers = new ArrayList<>(visible.cardinality());
+        for (MaledictusPlugin.WorldTimer timer : timers)
+        {
+            if (visible.get(timer.getWorld()))
+            {
+                sortedTimers.add(timer);
+            }
+        }
 
         if (showClosestCheck.isSelected())
         {
-            sortedTimers.sort(Comparator.comparingLong(MaledictusPlugin.WorldTimer::secondsLeft));
+            sortedTimers.sort(closestSpawnComparator());
         }
         else
         {
             sortedTimers.sort(Comparator.comparingInt(MaledictusPlugin.WorldTimer::getWorld));
         }
 
-        constraints.gridy = 0;
-        MaledictusTimerRow lastRow = null;
+        showOverlayCheck.setSelected(plugin.getConfig().showOverlay());
 
-        for (MaledictusPlugin.WorldTimer timer : sortedTimers)
+        if (showGridCheck.isSelected())
         {
-            MaledictusTimerRow row = new MaledictusTimerRow(plugin, timer);
-            row.updateRow();
+            // The grid repaints just the tiles that changed
+            gridView.setTimers(sortedTimers);
+            return;
+        }
 
-            if (lastRow != null)
+        listedRows.clear();
+        for (MaledictusPlugin.WorldTimer timer : sortedTimers)
+        {
+            MaledictusTimerRow row = rows.get(timer.getWorld());
+            if (row == null)
             {
-                constraints.weighty = 0;
-                listContainer.add(lastRow, constraints);
-                constraints.gridy++;
+                row = new MaledictusTimerRow(plugin, timer);
+                rows.put(timer.getWorld(), row);
             }
-
-            lastRow = row;
+            else
+            {
+                row.setTimer(timer);
+            }
+            row.updateRow();
+            listedRows.add(row);
         }
 
-        if (lastRow != null)
+        // Unchanged text is a no-op for the label
+        filler.setText(!listedRows.isEmpty() ? "" : timers.isEmpty() ? "No Maledictus worlds initialized." : "No worlds match the filters.");
+
+        if (syncRows(listedRows, visible))
         {
-            constraints.weighty = 1;
-            listContainer.add(lastRow, constraints);
+            listContainer.revalidate();
+            listContainer.repaint();
         }
-        else
+    }
+
+    /**
+     * Brings the list in line with the given rows by removing, inserting and moving only the rows that differ,
+     * so a refresh in which no world appears, disappears or changes place leaves the layout alone.
+     * Returns true if the list changed.
+     * @param visible The worlds of the target rows.
+     */
+    private boolean syncRows(List<MaledictusTimerRow> target, BitSet visible)
+    {
+        boolean changed = false;
+
+        // Drop rows that are no longer listed, or were replaced after a world list change (the filler stays last)
+        for (int i = listContainer.getComponentCount() - 2; i >= 0; i--)
         {
-            JLabel filler = new JLabel("No Maledictus worlds initialized.");
-            filler.setForeground(ColorScheme.LIGHT_GRAY_COLOR);
-            constraints.gridy = 0;
-            constraints.weighty = 1;
-            listContainer.add(filler, constraints);
+            MaledictusTimerRow row = (MaledictusTimerRow) listContainer.getComponent(i);
+            if (!visible.get(row.getWorld()) || rows.get(row.getWorld()) != row)
+            {
+                listContainer.remove(i);
+                changed = true;
+            }
         }
 
-        showOverlayCheck.setSelected(plugin.getConfig().showOverlay());
+        // Everything before i already matches, so a listed row found elsewhere can only be further down
+        for (int i = 0; i < target.size(); i++)
+        {
+            MaledictusTimerRow row = target.get(i);
+            if (listContainer.getComponent(i) == row)
+            {
+                continue;
+            }
+
+            if (row.getParent() == listContainer)
+            {
+                listContainer.remove(row); // The sort order changed
+            }
+            listContainer.add(row, constraints, i);
+            changed = true;
+        }
 
-        listContainer.revalidate();
-        listContainer.repaint();
+        return changed;
     }
 }
\ No newline at end of file
@@ -6,11 +6,17 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
+import net.runelite.api.NPC;
+import net.runelite.api.Player;
 import net.runelite.api.WorldType;
+import net.runelite.api.events.ActorDeath;
 import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.FocusChanged;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.GameTick;
+import net.runelite.api.events.WorldListLoad;
 import net.runelite.api.widgets.ComponentID;
+import net.runelite.client.RuneLite;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.chat.ChatColorType;
 import net.runelite.client.chat.ChatMessageBuilder;
@@ -18,6 +24,7 @@ import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.config.ConfigGroup;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.game.WorldService;
 import net.runelite.client.plugins.Plugin;
@@ -36,14 +43,19 @@ import org.slf4j.LoggerFactory;
 import javax.inject.Inject;
 import javax.swing.SwingUtilities; // Added for manual timer update
 import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.EnumSet;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @PluginDescriptor(
@@ -63,6 +75,7 @@ public class MaledictusPlugin extends Plugin
     // Time threshold for skull colors (in seconds)
     public static final long TIME_RED_THRESHOLD_SECS = Duration.ofMinutes(15).getSeconds(); // 15 mins (900s)
 
+    // Hop state: client thread only (set by hop commands, consumed by handleHop on GameTick)
     private net.runelite.api.World quickHopTargetWorld;
     int displaySwitcherAttempts = 0;
 
@@ -77,14 +90,37 @@ public class MaledictusPlugin extends Plugin
     @Inject private ClientThread clientThread;
     @Inject private WorldService worldService;
     @Inject private ChatMessageManager chatMessageManager;
+    @Inject private WorldWatchNotifier watchNotifier;
+    @Inject private ScheduledExecutorService executor;
 
     private NavigationButton navButton;
-    private final Map<Integer, WorldTimer> worldTimers = new HashMap<>();
+    // World timers: written only on the client thread via submit(), read anywhere through snapshots
+    private final TimerStore timerStore = new TimerStore();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
 
-    // Cached skull icons
-    private BufferedImage skullWhite;
-    private BufferedImage skullRed;
-    private BufferedImage skullPanel;
+    // Tracks which worlds came from the world list, for add/retype/evict diffs (client thread only).
+    // Created on the first world list and dropped on shutdown
+    private WorldListReconciler worldReconciler;
+
+    // Optional local JSON/SSE endpoint, only created once enabled in the config
+    private volatile TimerHttpServer httpServer;
+
+    // Bitset indexes backing the panel filters
+    private final WorldIndex worldIndex = new WorldIndex();
+
+    // Revenant kills and time in caves observed per world
+    private final RevenantActivity activity = new RevenantActivity();
+
+    // Timeline of timer and hop events for forensics, viewable and dumpable from the panel; created on the first event
+    private volatile SpawnEventRecorder eventRecorder;
+
+    // Decides when the panel/overlay need to redraw, created in startUp()
+    private RefreshGovernor refreshGovernor;
+
+    // Navigation icon, the only image decoded at startup
+    private volatile BufferedImage skullPanel;
+    // Pre-scaled skull icons, built in the background after startup
+    private volatile SkullIconCache skullIcons;
 
     @Provides
     com.osrspluginz.maledictus.MaledictusConfig provideConfig(ConfigManager configManager)
@@ -95,10 +131,14 @@ public class MaledictusPlugin extends Plugin
     @Override
     protected void startUp()
     {
-        // Image loading paths
-        skullWhite = ImageUtil.loadImageResource(getClass(), "/skullwhite.png");
-        skullRed = ImageUtil.loadImageResource(getClass(), "/skullred.png");
+        final long startNanos = System.nanoTime();
+
+        // Only the navigation icon is needed up front; the other skulls are decoded off the client thread
         skullPanel = ImageUtil.loadImageResource(getClass(), "/skullpanel.png");
+        loadSkullIcons();
+
+        refreshGovernor = new RefreshGovernor(config);
+        refreshGovernor.setLoggedIn(client.getGameState() == GameState.LOGGED_IN);
 
         overlayManager.add(overlay);
 
@@ -111,67 +151,254 @@ public class MaledictusPlugin extends Plugin
         clientToolbar.addNavigation(navButton);
 
         // --- Initialization: Dynamic World Loading ---
-        loadWorldList();
+        // Only if the client already has a world list; otherwise it is loaded by onWorldListLoad/onGameStateChanged
+        watchNotifier.start();
+        updateHttpServer();
+        if (client.getWorldList() != null)
+        {
+            submit(() -> reconcileWorldList(client.getWorldList()));
+        }
 
         log.info("Maledictus Timer started.");
+        log.debug("Startup took {}us.", (System.nanoTime() - startNanos) / 1000);
     }
 
     @Override
     protected void shutDown()
     {
         overlayManager.remove(overlay);
+        watchNotifier.stop();
+        stopHttpServer();
 
         if (navButton != null)
             clientToolbar.removeNavigation(navButton);
 
-        worldTimers.clear();
-        skullWhite = null;
-        skullRed = null;
-        skullPanel = null;
+        submit(() ->
+        {
+            timerStore.clear();
+            worldReconciler = null;
+            worldIndex.clear();
+            activity.clear();
+            resetQuickHopper();
+        });
+        synchronized (this)
+        {
+            skullIcons = null;
+            skullPanel = null;
+        }
 
         log.info("Maledictus Timer stopped.");
     }
 
+    // --- STATE COMMANDS (Single Writer) ---
+
     /**
-     * Dynamically fetches the world list from the client and populates the timer map
-     * with valid Members worlds. This replaces the hardcoded array.
+     * Runs a state change on the client thread, the only thread that writes plugin state.
+     * Calls from other threads are queued and drained on the client thread in order; calls already on
+     * the client thread run immediately. Once applied, a new timer snapshot is published and the panel
+     * refreshed once per batch. Never blocks the caller (often the EDT), even when the command ring is full.
+     * Commands must not call submit() themselves.
      */
-    private void loadWorldList()
+    void submit(Runnable command)
     {
-        net.runelite.api.World[] worlds = client.getWorldList();
-
-        if (worlds == null)
+        if (client.isClientThread())
         {
-            return; // Client hasn't loaded worlds yet; we will retry on GameStateChanged
+            command.run();
+            publishTimers();
+            return;
         }
 
-        int count = 0;
-        for (net.runelite.api.World world : worlds)
+        if (!timerStore.enqueue(command))
         {
-            EnumSet<WorldType> types = world.getTypes();
+            log.debug("Command ring full, queued command on the overflow");
+        }
+        scheduleDrain();
+    }
 
-            // Filter: Must be Members, and NOT a temporary game mode (PVP Arena, Quest Speedrun, Beta, etc)
-            if (types.contains(WorldType.MEMBERS)
-                    && !types.contains(WorldType.QUEST_SPEEDRUNNING)
-                    && !types.contains(WorldType.PVP_ARENA)
-                    && !types.contains(WorldType.NOSAVE_MODE)
-                    && !types.contains(WorldType.TOURNAMENT_WORLD)
-                    && !types.contains(WorldType.FRESH_START_WORLD)) // Optional: exclude Fresh Start if desired
+    private void scheduleDrain()
+    {
+        if (drainScheduled.compareAndSet(false, true))
+        {
+            clientThread.invokeLater(() ->
             {
-                // Verify the world is not null/offline and add if missing
-                if (worldTimers.putIfAbsent(world.getId(), new WorldTimer(world.getId(), Instant.MIN)) == null)
+                drainScheduled.set(false);
+                // drain() publishes the batch itself, so a later publish() would find nothing changed
+                if (timerStore.drain())
                 {
-                    count++;
+                    onTimersPublished();
                 }
+            });
+        }
+    }
+
+    private void publishTimers()
+    {
+        if (timerStore.publish())
+        {
+            onTimersPublished();
+        }
+    }
+
+    // Pushes a newly published snapshot to the panel and the timer server
+    private void onTimersPublished()
+    {
+        SwingUtilities.invokeLater(() -> panel.updatePanel());
+        TimerHttpServer server = httpServer;
+        if (server != null)
+        {
+            server.publish(timerStore.getSnapshot());
+        }
+    }
+
+    // --- LOCAL TIMER SERVER ---
+
+    @Subscribe
+    public void onConfigChanged(ConfigChanged event)
+    {
+        if ("maledictus".equals(event.getGroup()) && event.getKey().startsWith("httpServer"))
+        {
+            stopHttpServer();
+            updateHttpServer();
+        }
+    }
+
+    private synchronized void updateHttpServer()
+    {
+        if (!config.httpServerEnabled())
+        {
+            stopHttpServer();
+            return;
+        }
+
+        try
+        {
+            if (httpServer == null)
+            {
+                httpServer = new TimerHttpServer(timerStore::getSnapshot);
             }
+            httpServer.start(config.httpServerPort());
         }
+        catch (IOException ex)
+        {
+            log.warn("Unable to start the Maledictus timer server on port {}", config.httpServerPort(), ex);
+        }
+    }
 
-        if (count > 0)
+    private synchronized void stopHttpServer()
+    {
+        if (httpServer != null)
         {
-            log.debug("Loaded {} new member worlds.", count);
+            httpServer.stop();
         }
     }
 
+    /**
+     * Members worlds that are NOT a temporary game mode (PVP Arena, Quest Speedrun, Beta, etc)
+     */
+    static boolean isTrackedWorld(EnumSet<WorldType> types)
+    {
+        return types.contains(WorldType.MEMBERS)
+                && !types.contains(WorldType.QUEST_SPEEDRUNNING)
+                && !types.contains(WorldType.PVP_ARENA)
+                && !types.contains(WorldType.NOSAVE_MODE)
+                && !types.contains(WorldType.TOURNAMENT_WORLD)
+                && !types.contains(WorldType.FRESH_START_WORLD); // Optional: exclude Fresh Start if desired
+    }
+
+    /**
+     * Reconciles the tracked worlds with a world list: new member worlds are added, worlds whose type or
+     * location changed are re-indexed, and worlds missing for longer than the grace period are evicted.
+     * Only the changed rows are dropped from the panel. Client thread only.
+     */
+    private void reconcileWorldList(net.runelite.api.World[] worlds)
+    {
+        if (worlds == null)
+        {
+            return; // Client hasn't loaded worlds yet; we will retry on WorldListLoad/GameStateChanged
+        }
+
+        ReconcileListener counts = new ReconcileListener();
+        worldListReconciled(getWorldReconciler().reconcile(worlds, System.currentTimeMillis(), counts), counts);
+    }
+
+    private WorldListReconciler getWorldReconciler()
+    {
+        if (worldReconciler == null)
+        {
+            worldReconciler = new WorldListReconciler();
+        }
+        return worldReconciler;
+    }
+
+    // Client thread only: applies each reconciled world to the index and timer store, counting the changes
+    private class ReconcileListener implements WorldListReconciler.Listener
+    {
+        int added;
+        int retyped;
+        int evicted;
+
+        @Override
+        public void added(int worldId, EnumSet<WorldType> types, int location)
+        {
+            worldIndex.putWorld(worldId, types, location);
+            timerStore.putIfAbsent(new WorldTimer(worldId, Instant.MIN));
+            added++;
+        }
+
+        @Override
+        public void retyped(int worldId, EnumSet<WorldType> types, int location)
+        {
+            worldIndex.putWorld(worldId, types, location);
+            retyped++;
+        }
+
+        @Override
+        public void evicted(int worldId)
+        {
+            worldIndex.removeWorld(worldId);
+            timerStore.remove(worldId);
+            evicted++;
+        }
+    }
+
+    private void worldListReconciled(BitSet changed, ReconcileListener counts)
+    {
+        if (changed.isEmpty())
+        {
+            return;
+        }
+
+        // Retyped worlds change the filter results without touching a timer, so force a new snapshot and panel refresh
+        timerStore.touch();
+        if (counts.evicted > 0)
+        {
+            SwingUtilities.invokeLater(() -> panel.removeRows(changed));
+        }
+        log.debug("World list reconciled: {} added, {} retyped, {} evicted.", counts.added, counts.retyped, counts.evicted);
+    }
+
+    @Schedule(
+            period = 5,
+            unit = ChronoUnit.MINUTES,
+            asynchronous = true
+    )
+    public void reconcileWorlds()
+    {
+        // WorldService refreshes its list in the background; pick up worlds that appeared or went away mid-session
+        submit(() ->
+        {
+            WorldResult worldResult = worldService.getWorlds();
+            if (worldResult == null)
+            {
+                return;
+            }
+
+            // Reconciled straight from the service's list, without creating a client world for each
+            ReconcileListener counts = new ReconcileListener();
+            worldListReconciled(getWorldReconciler().reconcile(worldResult.getWorlds(), System.currentTimeMillis(), counts), counts);
+        });
+    }
+
     // --- CONSOLE MESSAGE HELPER ---
 
     private void sendConsoleMessage(String message) {
@@ -200,10 +427,21 @@ public class MaledictusPlugin extends Plugin
     {
         // Calculate the next time the spawn chance can accumulate (Spawn Time + 45 minutes)
         Instant nextEligibility = spawnTime.plus(RESET_TIMER);
-        worldTimers.put(world, new WorldTimer(world, nextEligibility));
+        WorldTimer timer = new WorldTimer(world, nextEligibility);
+        getEventRecorder().record(SpawnEventRecorder.Type.SPAWN, SpawnEventRecorder.Source.CHAT, world, (int) nextEligibility.getEpochSecond());
+
+        submit(() -> applyTimer(timer));
         log.info("Maledictus spawned on W{}. Next eligibility for spawn begins at {}", world, nextEligibility);
     }
 
+    // Client thread only: stores a new timer and updates everything derived from it
+    private void applyTimer(WorldTimer timer)
+    {
+        timerStore.put(timer);
+        activity.resetPressure(timer.getWorld());
+        watchNotifier.onTimerChanged(timer);
+    }
+
     /**
      * Manually sets a timer for a specific world based on minutes remaining.
      * @param worldId The world number.
@@ -214,10 +452,48 @@ public class MaledictusPlugin extends Plugin
         // Calculate eligibility time based on minutes remaining from NOW.
         Instant nextEligibility = Instant.now().plus(Duration.ofMinutes(minutesRemaining));
 
-        worldTimers.put(worldId, new WorldTimer(worldId, nextEligibility));
+        WorldTimer timer = new WorldTimer(worldId, nextEligibility);
+        getEventRecorder().record(SpawnEventRecorder.Type.MANUAL_TIMER, SpawnEventRecorder.Source.PANEL, worldId, minutesRemaining);
 
-        // Force the panel to redraw immediately
-        SwingUtilities.invokeLater(() -> panel.updatePanel());
+        // The panel redraws as soon as the client thread has applied the change
+        submit(() -> applyTimer(timer));
+    }
+
+    /**
+     * Applies a batch of timers (from bulk import or a share code) in one go, with a single panel refresh.
+     * @param timers World ID -> next eligibility time.
+     * @return The number of timers applied.
+     */
+    public int importTimers(Map<Integer, Instant> timers)
+    {
+        List<WorldTimer> batch = new ArrayList<>(timers.size());
+        for (Map.Entry<Integer, Instant> entry : timers.entrySet())
+        {
+            batch.add(new WorldTimer(entry.getKey(), entry.getValue()));
+            getEventRecorder().record(SpawnEventRecorder.Type.IMPORTED_TIMER, SpawnEventRecorder.Source.IMPORT,
+                    entry.getKey(), (int) entry.getValue().getEpochSecond());
+        }
+
+        // One command, so the batch is published as a single snapshot
+        submit(() -> batch.forEach(this::applyTimer));
+        log.debug("Imported {} Maledictus timers.", batch.size());
+        return batch.size();
+    }
+
+    /**
+     * Writes the event timeline to a new file under .runelite/maledictus and returns it.
+     */
+    public Path dumpEvents() throws IOException
+    {
+        return getEventRecorder().dump(new File(RuneLite.RUNELITE_DIR, "maledictus").toPath());
+    }
+
+    /**
+     * Returns a share code holding every world timer that has data.
+     */
+    public String exportTimers()
+    {
+        return TimerShareCodec.encode(getAllWorldTimers(), Instant.now());
     }
 
     @Schedule(
@@ -227,9 +503,20 @@ public class MaledictusPlugin extends Plugin
     )
     public void updateTimers()
     {
-        if (panel.isVisible())
+        // Cheap check every second; the panel is only rebuilt when something visible can have changed
+        RefreshGovernor governor = refreshGovernor;
+        if (governor != null && governor.shouldRefreshPanel(System.currentTimeMillis(), worldIndex.getNextTransition()))
         {
-            panel.updatePanel();
+            SwingUtilities.invokeLater(() -> panel.updatePanel());
+        }
+    }
+
+    @Subscribe
+    public void onFocusChanged(FocusChanged event)
+    {
+        if (refreshGovernor != null)
+        {
+            refreshGovernor.setFocused(event.isFocused());
         }
     }
 
@@ -260,11 +547,39 @@ public class MaledictusPlugin extends Plugin
         }
         if (event.getMessage().equals("Please finish what you're doing before using the World Switcher."))
         {
+            getEventRecorder().record(SpawnEventRecorder.Type.HOP_BLOCKED, SpawnEventRecorder.Source.GAME,
+                    quickHopTargetWorld != null ? quickHopTargetWorld.getId() : client.getWorld(), 0);
             sendConsoleMessage("Hop blocked by game: Please stop what you are doing (e.g. combat, skilling) and try again.");
             // We intentionally do not call resetQuickHopper() here so the hop retries on the next tick
         }
     }
 
+    // --- TRACKING REVENANT ACTIVITY (Spawn Pressure) ---
+
+    @Subscribe
+    public void onActorDeath(ActorDeath event)
+    {
+        if (!(event.getActor() instanceof NPC) || !RevenantActivity.isRevenant(((NPC) event.getActor()).getId()))
+        {
+            return;
+        }
+
+        int world = client.getWorld();
+        WorldTimer timer = timerStore.get(world);
+        // Unknown worlds count as eligible: a spawn could be building up there
+        boolean eligible = timer == null || timer.secondsLeft() <= 0;
+        activity.recordKill(world, eligible);
+    }
+
+    private void trackCaveTime()
+    {
+        Player player = client.getLocalPlayer();
+        if (player != null && RevenantActivity.isRevCaveRegion(player.getWorldLocation().getRegionID()))
+        {
+            activity.recordCaveTick(client.getWorld());
+        }
+    }
+
     // --- WorldTimer Static Inner Class (Data Model) ---
     @Value
     public static class WorldTimer
@@ -292,12 +607,20 @@ public class MaledictusPlugin extends Plugin
          * Returns remaining seconds until eligible to spawn. Returns Long.MAX_VALUE if no data is observed.
          */
         public long secondsLeft()
+        {
+            return secondsLeft(Instant.now());
+        }
+
+        /**
+         * Returns remaining seconds until eligible as of the given time, truncated like {@link #secondsLeft()}.
+         */
+        public long secondsLeft(Instant now)
         {
             if (getNextSpawn() == Instant.MIN)
             {
                 return Long.MAX_VALUE;
             }
-            return Instant.now().until(getNextSpawn(), ChronoUnit.SECONDS);
+            return now.until(getNextSpawn(), ChronoUnit.SECONDS);
         }
 
         /**
@@ -335,13 +658,14 @@ public class MaledictusPlugin extends Plugin
 
         /**
          * Final simplified skull logic: 45-15m = White, 15-0m = Red, <=0m = Panel Skull (Eligible/Active), No Data = White.
+         * The returned key is looked up in the plugin's {@link SkullIconCache}.
          */
-        public BufferedImage getSkullIcon(MaledictusPlugin plugin)
+        public SkullIconCache.Skull getSkull()
         {
             // Worlds with 'No Data' use the white skull
             if (getNextSpawn() == Instant.MIN)
             {
-                return plugin.getSkullWhite();
+                return SkullIconCache.Skull.WHITE;
             }
 
             long remaining = secondsLeft();
@@ -349,7 +673,7 @@ public class MaledictusPlugin extends Plugin
             // 1. Eligible/Active (remaining <= 0) - This is the "cyan skull" state
             if (remaining <= 0)
             {
-                return plugin.getSkullPanel();
+                return SkullIconCache.Skull.PANEL;
             }
 
             final long TIME_RED_THRESHOLD_SECS = MaledictusPlugin.TIME_RED_THRESHOLD_SECS;
@@ -357,11 +681,11 @@ public class MaledictusPlugin extends Plugin
             // 2. 0 to 15 mins left in prevention period (Red Skull)
             if (remaining <= TIME_RED_THRESHOLD_SECS)
             {
-                return plugin.getSkullRed();
+                return SkullIconCache.Skull.RED;
             }
 
             // 3. 15 mins to 45 mins left (White Skull)
-            return plugin.getSkullWhite();
+            return SkullIconCache.Skull.WHITE;
         }
     }
 
@@ -374,7 +698,15 @@ public class MaledictusPlugin extends Plugin
      */
     public WorldTimer getWorldTimer(int worldId)
     {
-        WorldTimer timer = worldTimers.get(worldId);
+        return getWorldTimer(timerStore.getSnapshot(), worldId);
+    }
+
+    /**
+     * As {@link #getWorldTimer(int)}, but read from the given snapshot.
+     */
+    WorldTimer getWorldTimer(TimerStore.Snapshot snapshot, int worldId)
+    {
+        WorldTimer timer = snapshot.get(worldId);
 
         // If the current world is not in the tracked list (e.g. F2P or untracked member world)
         // and we are requesting the timer for the local player's world, provide a default 'No Data' timer.
@@ -387,18 +719,94 @@ public class MaledictusPlugin extends Plugin
     }
 
     /**
-     * Returns a list of all world timers.
+     * Returns an unmodifiable list of all world timers, as of the last published snapshot.
      */
     public List<WorldTimer> getAllWorldTimers()
     {
-        return new ArrayList<>(worldTimers.values());
+        return timerStore.getSnapshot().getTimers();
+    }
+
+    /**
+     * Returns the last published timers and their version, for readers that need both to agree.
+     */
+    public TimerStore.Snapshot getTimerSnapshot()
+    {
+        return timerStore.getSnapshot();
+    }
+
+    public boolean isWatched(int worldId)
+    {
+        return watchNotifier.isWatched(worldId);
+    }
+
+    /**
+     * Toggles desktop notifications for a world (called from the panel's right-click menu).
+     */
+    public void toggleWatch(int worldId)
+    {
+        submit(() ->
+        {
+            boolean watched = watchNotifier.toggleWatch(worldId, timerStore.get(worldId));
+            SwingUtilities.invokeLater(() -> panel.updatePanel());
+            log.debug("W{} watch {}", worldId, watched ? "enabled" : "disabled");
+        });
     }
 
     public com.osrspluginz.maledictus.MaledictusConfig getConfig() { return config; }
     public Client getClient() { return client; }
-    public BufferedImage getSkullWhite() { return skullWhite; }
-    public BufferedImage getSkullRed() { return skullRed; }
-    public BufferedImage getSkullPanel() { return skullPanel; }
+    /**
+     * Returns the skull icons, or null while they are still being built after startup. Never blocks.
+     */
+    public SkullIconCache getSkullIcons()
+    {
+        return skullIcons;
+    }
+
+    /**
+     * Decodes and scales the skull icons on the background executor, so neither the first overlay frame
+     * on the client thread nor the first panel refresh pays for it. The panel picks them up once ready.
+     */
+    private void loadSkullIcons()
+    {
+        final BufferedImage panelImage = skullPanel;
+        executor.execute(() ->
+        {
+            BufferedImage skullWhite = ImageUtil.loadImageResource(getClass(), "/skullwhite.png");
+            BufferedImage skullRed = ImageUtil.loadImageResource(getClass(), "/skullred.png");
+            SkullIconCache icons = new SkullIconCache(skullWhite, skullRed, panelImage);
+
+            synchronized (this)
+            {
+                // Dropped if the plugin was stopped (or restarted) meanwhile
+                if (skullPanel != panelImage)
+                {
+                    return;
+                }
+                skullIcons = icons;
+            }
+            SwingUtilities.invokeLater(() -> panel.updatePanel());
+        });
+    }
+
+    public RevenantActivity getActivity() { return activity; }
+    public SpawnEventRecorder getEventRecorder()
+    {
+        SpawnEventRecorder recorder = eventRecorder;
+        if (recorder == null)
+        {
+            synchronized (this)
+            {
+                recorder = eventRecorder;
+                if (recorder == null)
+                {
+                    recorder = eventRecorder = new SpawnEventRecorder();
+                }
+            }
+        }
+        return recorder;
+    }
+    public WorldIndex getWorldIndex() { return worldIndex; }
+    public RefreshGovernor getRefreshGovernor() { return refreshGovernor; }
 
     public void setOverlayConfig(boolean selected)
     {
@@ -414,34 +822,51 @@ public class MaledictusPlugin extends Plugin
     @Subscribe
     public void onGameStateChanged(GameStateChanged event)
     {
-        // Failsafe: If worlds failed to load at startup (null), try loading them when game state changes (e.g. login)
-        if (worldTimers.isEmpty() && client.getGameState().getState() >= GameState.LOGIN_SCREEN.getState())
+        if (refreshGovernor != null)
         {
-            loadWorldList();
+            refreshGovernor.setLoggedIn(event.getGameState() == GameState.LOGGED_IN);
+        }
+
+        // Failsafe: If worlds were not available at startup (null), try loading them when game state changes (e.g. login)
+        if (timerStore.isEmpty() && client.getGameState().getState() >= GameState.LOGIN_SCREEN.getState())
+        {
+            submit(() -> reconcileWorldList(client.getWorldList()));
         }
     }
 
+    @Subscribe
+    public void onWorldListLoad(WorldListLoad event)
+    {
+        // The client fetched a fresh world list (e.g. world switcher opened)
+        submit(() -> reconcileWorldList(event.getWorlds()));
+    }
+
     @Subscribe
     public void onGameTick(GameTick gameTick)
     {
+        trackCaveTime();
         handleHop();
     }
 
     // Public method called by the MaledictusTimerRow (Swing Thread)
     public void hopTo(int worldId)
     {
-        // All checks and the hop execution must run on the Client Thread
-        clientThread.invoke(() -> {
+        getEventRecorder().record(SpawnEventRecorder.Type.HOP_REQUESTED, SpawnEventRecorder.Source.PANEL, worldId, 0);
+
+        // All checks and the hop execution must run on the Client Thread, which owns the hop state
+        submit(() -> {
 
             if (client.getWorld() == worldId)
             {
                 sendConsoleMessage("You are already on World " + worldId);
+                getEventRecorder().record(SpawnEventRecorder.Type.HOP_REJECTED, SpawnEventRecorder.Source.HOPPER, worldId, 0);
                 return;
             }
 
             if (client.getGameState() != GameState.LOGGED_IN && client.getGameState() != GameState.LOGIN_SCREEN)
             {
                 sendConsoleMessage("Cannot quick-hop while not logged in or at login screen.");
+                getEventRecorder().record(SpawnEventRecorder.Type.HOP_REJECTED, SpawnEventRecorder.Source.HOPPER, worldId, 0);
                 return;
             }
 
@@ -449,6 +874,7 @@ public class MaledictusPlugin extends Plugin
             if (!config.isWorldHopperEnabled())
             {
                 sendConsoleMessage("World hopping is disabled in the plugin configuration.");
+                getEventRecorder().record(SpawnEventRecorder.Type.HOP_REJECTED, SpawnEventRecorder.Source.HOPPER, worldId, 0);
                 return;
             }
 
@@ -457,6 +883,7 @@ public class MaledictusPlugin extends Plugin
             if (worldResult == null)
             {
                 sendConsoleMessage("Failed to fetch world list from RuneLite API. Cannot hop.");
+                getEventRecorder().record(SpawnEventRecorder.Type.HOP_REJECTED, SpawnEventRecorder.Source.HOPPER, worldId, 0);
                 return;
             }
 
@@ -465,22 +892,18 @@ public class MaledictusPlugin extends Plugin
             if (world == null)
             {
                 sendConsoleMessage("World ID " + worldId + " not found in the fetched world list. Cannot hop.");
+                getEventRecorder().record(SpawnEventRecorder.Type.HOP_REJECTED, SpawnEventRecorder.Source.HOPPER, worldId, 0);
                 return;
             }
 
-            final net.runelite.api.World rsWorld = client.createWorld();
-            rsWorld.setActivity(world.getActivity());
-            rsWorld.setAddress(world.getAddress());
-            rsWorld.setId(world.getId());
-            rsWorld.setPlayerCount(world.getPlayers());
-            rsWorld.setLocation(world.getLocation());
-            rsWorld.setTypes(WorldUtil.toWorldTypes(world.getTypes()));
+            final net.runelite.api.World rsWorld = toRsWorld(world);
 
             sendConsoleMessage("Quick-hopping to World " + world.getId() + "...");
 
             if (client.getGameState() == GameState.LOGIN_SCREEN)
             {
                 client.changeWorld(rsWorld);
+                getEventRecorder().record(SpawnEventRecorder.Type.HOP_EXECUTED, SpawnEventRecorder.Source.HOPPER, worldId, 0);
                 return;
             }
 
@@ -490,6 +913,19 @@ public class MaledictusPlugin extends Plugin
         });
     }
 
+    // Client thread only: converts a world from the RuneLite world service into a client world
+    private net.runelite.api.World toRsWorld(World world)
+    {
+        final net.runelite.api.World rsWorld = client.createWorld();
+        rsWorld.setActivity(world.getActivity());
+        rsWorld.setAddress(world.getAddress());
+        rsWorld.setId(world.getId());
+        rsWorld.setPlayerCount(world.getPlayers());
+        rsWorld.setLocation(world.getLocation());
+        rsWorld.setTypes(WorldUtil.toWorldTypes(world.getTypes()));
+        return rsWorld;
+    }
+
     private void handleHop()
     {
         if (quickHopTargetWorld == null)
@@ -504,6 +940,8 @@ public class MaledictusPlugin extends Plugin
             if (++displaySwitcherAttempts >= DISPLAY_SWITCHER_MAX_ATTEMPTS)
             {
                 sendConsoleMessage("Failed to quick-hop after " + displaySwitcherAttempts + " attempts. Aborting hop target. (Game likely blocking the hop)");
+                getEventRecorder().record(SpawnEventRecorder.Type.HOP_ABORTED, SpawnEventRecorder.Source.HOPPER,
+                        quickHopTargetWorld.getId(), displaySwitcherAttempts);
 
                 resetQuickHopper();
             }
@@ -512,6 +950,7 @@ public class MaledictusPlugin extends Plugin
         {
             // World switcher is open, execute the hop
             client.hopToWorld(quickHopTargetWorld);
+            getEventRecorder().record(SpawnEventRecorder.Type.HOP_EXECUTED, SpawnEventRecorder.Source.HOPPER, quickHopTargetWorld.getId(), 0);
             resetQuickHopper();
         }
     }
@@ -2,23 +2,27 @@ package com.osrspluginz.maledictus;
 
 import net.runelite.client.ui.ColorScheme;
 import javax.swing.*;
+import javax.swing.border.CompoundBorder;
 import javax.swing.border.EmptyBorder;
+import javax.swing.border.MatteBorder;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.awt.image.BufferedImage;
 
 // NOTE: Changed back to extend JPanel (or whatever the base class is for FixedWidthPanel)
 // to ensure the layout structure that fixed the skull icon is maintained.
 public class MaledictusTimerRow extends JPanel
 {
     private final com.osrspluginz.maledictus.MaledictusPlugin plugin;
-    private final com.osrspluginz.maledictus.MaledictusPlugin.WorldTimer timer;
+    // Replaced by the panel when the world's timer changes; the row (and its world) is reused
+    private com.osrspluginz.maledictus.MaledictusPlugin.WorldTimer timer;
+    private Boolean watched;
 
     // Changed names to match your current code (`skullIconLabel` was used in your current version)
     private final JLabel worldLabel = new JLabel();
     private final JLabel timeLabel = new JLabel();
     private final JLabel skullIconLabel = new JLabel();
+    private final JLabel activityLabel = new JLabel();
 
     public MaledictusTimerRow(com.osrspluginz.maledictus.MaledictusPlugin plugin, com.osrspluginz.maledictus.MaledictusPlugin.WorldTimer timer)
     {
@@ -27,7 +31,7 @@ public class MaledictusTimerRow extends JPanel
 
         // --- Row Setup (UI Initialization) ---
         setLayout(new BorderLayout()); // Use plain BorderLayout for the main row
-        setBorder(new EmptyBorder(10, 5, 10, 5)); // Increased vertical padding
+        updateBorder();
         setBackground(ColorScheme.DARKER_GRAY_COLOR);
         setCursor(new Cursor(Cursor.HAND_CURSOR));
 
@@ -54,6 +58,11 @@ public class MaledictusTimerRow extends JPanel
         timeLabel.setFont(timeLabel.getFont().deriveFont(Font.BOLD)); // Added font bolding from the working version
         add(timeLabel, BorderLayout.CENTER);
 
+        // --- Activity Label (Right): revenant kills / time in caves seen on this world ---
+        activityLabel.setFont(activityLabel.getFont().deriveFont(activityLabel.getFont().getSize2D() - 2f));
+        activityLabel.setForeground(ColorScheme.LIGHT_GRAY_COLOR);
+        add(activityLabel, BorderLayout.EAST);
+
         // Removed skullIconLabel from BorderLayout.EAST since it's now in leftPanel.
         // We will now rely on the coloring logic to apply the correct World ID color.
 
@@ -63,6 +72,11 @@ public class MaledictusTimerRow extends JPanel
             @Override
             public void mouseReleased(MouseEvent e)
             {
+                if (SwingUtilities.isRightMouseButton(e))
+                {
+                    showWatchMenu(e);
+                    return;
+                }
                 plugin.hopTo(timer.getWorld());
             }
 
@@ -80,6 +94,47 @@ public class MaledictusTimerRow extends JPanel
         });
     }
 
+    public void setTimer(com.osrspluginz.maledictus.MaledictusPlugin.WorldTimer timer)
+    {
+        this.timer = timer;
+    }
+
+    public int getWorld()
+    {
+        return timer.getWorld();
+    }
+
+    private void updateBorder()
+    {
+        boolean nowWatched = plugin.isWatched(timer.getWorld());
+        if (watched != null && watched == nowWatched)
+        {
+            return;
+        }
+        watched = nowWatched;
+
+        if (nowWatched)
+        {
+            // Watched worlds get an orange marker on the left edge
+            setBorder(new CompoundBorder(new MatteBorder(0, 2, 0, 0, ColorScheme.BRAND_ORANGE), new EmptyBorder(10, 3, 10, 5)));
+        }
+        else
+        {
+            setBorder(new EmptyBorder(10, 5, 10, 5)); // Increased vertical padding
+        }
+    }
+
+    private void showWatchMenu(MouseEvent e)
+    {
+        final int world = timer.getWorld();
+        JMenuItem watchItem = new JMenuItem(plugin.isWatched(world) ? "Stop watching W" + world : "Watch W" + world);
+        watchItem.addActionListener(ev -> plugin.toggleWatch(world));
+
+        JPopupMenu menu = new JPopupMenu();
+        menu.add(watchItem);
+        menu.show(this, e.getX(), e.getY());
+    }
+
     /**
      * Determines the correct text color for the timer based on the remaining time.
      */
@@ -110,9 +165,12 @@ public class MaledictusTimerRow extends JPanel
     // --- CRITICAL: Color & Skull Display Logic ---
     public void updateRow()
     {
-        // 1. Set the Skull Icon (Image is selected based on logic in plugin file)
-        BufferedImage skullImage = timer.getSkullIcon(plugin);
-        skullIconLabel.setIcon(new ImageIcon(skullImage));
+        // 1. Set the Skull Icon (Icon is selected based on logic in plugin file, and shared from the cache)
+        SkullIconCache skullIcons = plugin.getSkullIcons();
+        if (skullIcons != null)
+        {
+            skullIconLabel.setIcon(skullIcons.getPanelIcon(timer.getSkull()));
+        }
 
         // 2. Set the Time Text
         timeLabel.setText(timer.getDisplayText());
@@ -125,7 +183,32 @@ public class MaledictusTimerRow extends JPanel
         timeLabel.setForeground(rowColor);
         worldLabel.setForeground(rowColor);
 
+        // 4. Set the observed revenant activity (empty until we have seen something on this world)
+        updateActivity();
+
+        // 5. Mark watched worlds
+        updateBorder();
+
         revalidate();
         repaint();
     }
+
+    private void updateActivity()
+    {
+        RevenantActivity activity = plugin.getActivity();
+        int world = timer.getWorld();
+        int kills = activity.getKills(world);
+        long caveMinutes = activity.getCaveMillis(world) / 60_000;
+
+        if (kills == 0 && caveMinutes == 0)
+        {
+            activityLabel.setText("");
+            activityLabel.setToolTipText(null);
+            return;
+        }
+
+        activityLabel.setText(kills + "k " + caveMinutes + "m");
+        activityLabel.setToolTipText("Revenant kills seen: " + kills
+                + " (" + activity.getPressure(world) + " since eligible), time in caves: " + caveMinutes + "m");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.osrspluginz.maledictus;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded multi-producer, single-consumer ring of commands. Any thread may {@link #offer}; only the
+ * owning thread (the client thread) may {@link #drain}. Producers claim a slot by CAS on the producer
+ * index and then publish the command into it; the consumer treats an empty slot as "not yet published".
+ */
+class MpscCommandRing
+{
+    private final AtomicReferenceArray<Runnable> slots;
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    MpscCommandRing(int capacity)
+    {
+        if (Integer.bitCount(capacity) != 1)
+        {
+            throw new IllegalArgumentException("Capacity must be a power of two");
+        }
+        slots = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+    }
+
+    /**
+     * Adds a command. Returns false if the ring is full.
+     */
+    boolean offer(Runnable command)
+    {
+        long index;
+        do
+        {
+            index = producerIndex.get();
+            if (index - consumerIndex.get() >= slots.length())
+            {
+                return false;
+            }
+        }
+        while (!producerIndex.compareAndSet(index, index + 1));
+
+        slots.set((int) index & mask, command);
+        return true;
+    }
+
+    /**
+     * Runs every published command in order on the calling (consumer) thread. Returns the number run.
+     */
+    int drain()
+    {
+        int count = 0;
+        long index = consumerIndex.get();
+
+        while (true)
+        {
+            int slot = (int) index & mask;
+            Runnable command = slots.get(slot);
+            if (command == null)
+            {
+                // Empty, or a producer has claimed the slot but not yet published; it is picked up next drain
+                return count;
+            }
+
+            slots.set(slot, null);
+            consumerIndex.set(++index);
+            command.run();
+            count++;
+        }
+    }
+
+    boolean isEmpty()
+    {
+        return producerIndex.get() == consumerIndex.get();
+    }
+}
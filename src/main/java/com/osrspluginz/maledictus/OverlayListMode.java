@@ -0,0 +1,21 @@
+package com.osrspluginz.maledictus;
+
+// Which other worlds the overlay lists below the current world's timer.
+public enum OverlayListMode
+{
+    SOONEST("Soonest eligible"),
+    RECENT("Most recently eligible");
+
+    private final String name;
+
+    OverlayListMode(String name)
+    {
+        this.name = name;
+    }
+
+    @Override
+    public String toString()
+    {
+        return name;
+    }
+}
@@ -0,0 +1,87 @@
+package com.osrspluginz.maledictus;
+
+import java.time.Instant;
+
+/**
+ * Decides when the panel and overlay actually need to redraw. The panel only refreshes while it is open,
+ * at an interval that depends on the configured {@link RefreshMode} and on whether the client is focused
+ * and logged in, plus immediately when a world crosses a color threshold. The overlay only rebuilds its
+ * text when the displayed value can have changed.
+ */
+public class RefreshGovernor
+{
+    private final MaledictusConfig config;
+
+    private volatile boolean panelOpen;
+    private volatile boolean focused = true;
+    private volatile boolean loggedIn;
+
+    private long lastPanelRefreshMillis;
+
+    RefreshGovernor(MaledictusConfig config)
+    {
+        this.config = config;
+    }
+
+    public void setPanelOpen(boolean panelOpen)
+    {
+        this.panelOpen = panelOpen;
+    }
+
+    public void setFocused(boolean focused)
+    {
+        this.focused = focused;
+    }
+
+    public void setLoggedIn(boolean loggedIn)
+    {
+        this.loggedIn = loggedIn;
+    }
+
+    /**
+     * Called by the once-per-second scheduler. Returns true if the panel should be redrawn now.
+     * @param nextTransition The next time any world changes color (see {@link WorldIndex#getNextTransition()}).
+     */
+    public synchronized boolean shouldRefreshPanel(long nowMillis, Instant nextTransition)
+    {
+        if (!panelOpen)
+        {
+            return false;
+        }
+
+        boolean crossedThreshold = !nextTransition.isAfter(Instant.ofEpochMilli(nowMillis));
+        // Allow a little slack so scheduler jitter does not skip a whole interval
+        boolean intervalElapsed = nowMillis - lastPanelRefreshMillis >= getPanelIntervalMillis() - 100;
+
+        if (!crossedThreshold && !intervalElapsed)
+        {
+            return false;
+        }
+
+        lastPanelRefreshMillis = nowMillis;
+        return true;
+    }
+
+    long getPanelIntervalMillis()
+    {
+        boolean active = focused && loggedIn;
+        switch (config.refreshMode())
+        {
+            case REALTIME:
+                return 1000;
+            case LOW_POWER:
+                return active ? 5000 : 30_000;
+            case BALANCED:
+            default:
+                return active ? 1000 : 10_000;
+        }
+    }
+
+    /**
+     * Returns the bucket of time the overlay text is valid for; the overlay rebuilds its text when this changes.
+     */
+    public long getOverlayTextBucket(long epochSecond)
+    {
+        return config.refreshMode() == RefreshMode.LOW_POWER ? epochSecond / 5 : epochSecond;
+    }
+}
@@ -0,0 +1,22 @@
+package com.osrspluginz.maledictus;
+
+// How eagerly the panel and overlay refresh their timers (see RefreshGovernor).
+public enum RefreshMode
+{
+    REALTIME("Real-time"),
+    BALANCED("Balanced"),
+    LOW_POWER("Low power");
+
+    private final String name;
+
+    RefreshMode(String name)
+    {
+        this.name = name;
+    }
+
+    @Override
+    public String toString()
+    {
+        return name;
+    }
+}
@@ -0,0 +1,113 @@
+package com.osrspluginz.maledictus;
+
+import java.util.Arrays;
+
+/**
+ * Per-world revenant activity observed by this client: revenant deaths and game ticks spent in the caves.
+ * Counters are plain int arrays indexed by world id so the per-event cost is a bounds check and an increment.
+ * Written on the client thread only; other threads may read slightly stale values.
+ */
+public class RevenantActivity
+{
+    // World ids are currently 301-6xx; anything at or above this is ignored
+    static final int WORLD_ID_LIMIT = 1024;
+
+    private static final int GAME_TICK_MILLIS = 600;
+
+    // Revenant imp, goblin, pyrefiend, hobgoblin, cyclops, hellhound, demon, ork, dark beast, knight, dragon
+    private static final int[] REVENANT_NPC_IDS = {7881, 7931, 7932, 7933, 7934, 7935, 7936, 7937, 7938, 7939, 7940};
+
+    // Revenant Caves map regions
+    private static final int[] REV_CAVE_REGIONS = {12701, 12702, 12703, 12957, 12958, 12959};
+
+    // Lookup tables so the hot-path checks are a single array load
+    private static final boolean[] IS_REVENANT = new boolean[8192];
+    private static final boolean[] IS_CAVE_REGION = new boolean[1 << 16];
+
+    static
+    {
+        for (int id : REVENANT_NPC_IDS)
+        {
+            IS_REVENANT[id] = true;
+        }
+        for (int region : REV_CAVE_REGIONS)
+        {
+            IS_CAVE_REGION[region] = true;
+        }
+    }
+
+    private final int[] kills = new int[WORLD_ID_LIMIT];
+    private final int[] killsSinceEligible = new int[WORLD_ID_LIMIT];
+    private final int[] caveTicks = new int[WORLD_ID_LIMIT];
+
+    static boolean isRevenant(int npcId)
+    {
+        return npcId >= 0 && npcId < IS_REVENANT.length && IS_REVENANT[npcId];
+    }
+
+    static boolean isRevCaveRegion(int regionId)
+    {
+        return regionId >= 0 && regionId < IS_CAVE_REGION.length && IS_CAVE_REGION[regionId];
+    }
+
+    /**
+     * Records a revenant death on the given world.
+     * @param eligible Whether the world's Maledictus prevention period had already ended (or is unknown).
+     */
+    public void recordKill(int world, boolean eligible)
+    {
+        if (world <= 0 || world >= WORLD_ID_LIMIT)
+        {
+            return;
+        }
+        kills[world]++;
+        if (eligible)
+        {
+            killsSinceEligible[world]++;
+        }
+    }
+
+    public void recordCaveTick(int world)
+    {
+        if (world > 0 && world < WORLD_ID_LIMIT)
+        {
+            caveTicks[world]++;
+        }
+    }
+
+    /**
+     * Called when a new Maledictus timer starts on a world; kills only count towards spawn pressure after it expires.
+     */
+    public void resetPressure(int world)
+    {
+        if (world > 0 && world < WORLD_ID_LIMIT)
+        {
+            killsSinceEligible[world] = 0;
+        }
+    }
+
+    public int getKills(int world)
+    {
+        return world > 0 && world < WORLD_ID_LIMIT ? kills[world] : 0;
+    }
+
+    /**
+     * Revenant kills observed on the world since it became eligible; used to rank eligible worlds.
+     */
+    public int getPressure(int world)
+    {
+        return world > 0 && world < WORLD_ID_LIMIT ? killsSinceEligible[world] : 0;
+    }
+
+    public long getCaveMillis(int world)
+    {
+        return world > 0 && world < WORLD_ID_LIMIT ? (long) caveTicks[world] * GAME_TICK_MILLIS : 0;
+    }
+
+    public void clear()
+    {
+        Arrays.fill(kills, 0);
+        Arrays.fill(killsSinceEligible, 0);
+        Arrays.fill(caveTicks, 0);
+    }
+}
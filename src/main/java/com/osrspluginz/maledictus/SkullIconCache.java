@@ -0,0 +1,110 @@
+package com.osrspluginz.maledictus;
+
+import net.runelite.client.ui.overlay.components.ImageComponent;
+
+import javax.swing.ImageIcon;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.Graphics2D;
+import java.awt.image.BaseMultiResolutionImage;
+import java.awt.image.BufferedImage;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Holds every skull image the panel and overlay draw, scaled once to the size each
+ * one uses and converted to the display's native pixel format. Built once in the background after
+ * startup (see {@link MaledictusPlugin#getSkullIcons()}); callers only swap references afterwards.
+ */
+public class SkullIconCache
+{
+    // Side panel rows reserve a 24px wide slot for the icon (see MaledictusTimerRow)
+    static final int PANEL_ICON_SIZE = 24;
+    // The overlay draws the source PNGs at their native 25px size
+    static final int OVERLAY_ICON_SIZE = 25;
+
+    // UI scale factors for which the panel icon carries a pre-scaled variant
+    private static final double[] HIDPI_SCALES = {1.0, 1.25, 1.5, 1.75, 2.0, 2.5, 3.0};
+
+    public enum Skull
+    {
+        WHITE,
+        RED,
+        PANEL
+    }
+
+    private final Map<Skull, ImageIcon> panelIcons = new EnumMap<>(Skull.class);
+    private final Map<Skull, ImageComponent> overlayComponents = new EnumMap<>(Skull.class);
+
+    public SkullIconCache(BufferedImage white, BufferedImage red, BufferedImage panel)
+    {
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+
+        put(gc, Skull.WHITE, white);
+        put(gc, Skull.RED, red);
+        put(gc, Skull.PANEL, panel);
+    }
+
+    private void put(GraphicsConfiguration gc, Skull skull, BufferedImage source)
+    {
+        // Panel: one variant per scale factor, Swing picks the best match for the screen at paint time
+        Image[] variants = new Image[HIDPI_SCALES.length];
+        for (int i = 0; i < HIDPI_SCALES.length; i++)
+        {
+            int size = (int) Math.round(PANEL_ICON_SIZE * HIDPI_SCALES[i]);
+            variants[i] = scale(gc, source, size);
+        }
+        panelIcons.put(skull, new ImageIcon(new BaseMultiResolutionImage(variants)));
+
+        // Overlay: ImageComponent draws the image 1:1, so only the base size is useful
+        overlayComponents.put(skull, new ImageComponent(scale(gc, source, OVERLAY_ICON_SIZE)));
+    }
+
+    public ImageIcon getPanelIcon(Skull skull)
+    {
+        return panelIcons.get(skull);
+    }
+
+    public ImageComponent getOverlayComponent(Skull skull)
+    {
+        return overlayComponents.get(skull);
+    }
+
+    /**
+     * Draws the source into a new image of the given square size, in the display's pixel format when known.
+     */
+    private static BufferedImage scale(GraphicsConfiguration gc, BufferedImage source, int size)
+    {
+        BufferedImage scaled = gc != null
+                ? gc.createCompatibleImage(size, size, Transparency.TRANSLUCENT)
+                : new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D g = scaled.createGraphics();
+        try
+        {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.drawImage(source, 0, 0, size, size, null);
+        }
+        finally
+        {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    private static GraphicsConfiguration getGraphicsConfiguration()
+    {
+        if (GraphicsEnvironment.isHeadless())
+        {
+            return null;
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice()
+                .getDefaultConfiguration();
+    }
+}
@@ -0,0 +1,169 @@
+package com.osrspluginz.maledictus;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Always-on timeline of timer and hop events, for working out after the fact what happened to a timer or a hop.
+ * Events are fixed-size binary records in a bounded off-heap ring buffer; once it is full the oldest records are
+ * overwritten. Recording takes an uncontended lock and allocates nothing, so it can run on every broadcast and tick.
+ * Records are only decoded to text when viewed in the panel or dumped to a file.
+ */
+public class SpawnEventRecorder
+{
+    static final int CAPACITY = 4096;
+
+    // Record layout: timestamp (epoch millis), world, type, source, value
+    static final int RECORD_SIZE = 16;
+    private static final int TIMESTAMP_OFFSET = 0;
+    private static final int WORLD_OFFSET = 8;
+    private static final int TYPE_OFFSET = 10;
+    private static final int SOURCE_OFFSET = 11;
+    private static final int VALUE_OFFSET = 12;
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS")
+            .withZone(ZoneId.systemDefault());
+
+    public enum Type
+    {
+        // value: eligible at, epoch seconds
+        SPAWN,
+        // value: minutes remaining entered
+        MANUAL_TIMER,
+        // value: eligible at, epoch seconds
+        IMPORTED_TIMER,
+        HOP_REQUESTED,
+        HOP_REJECTED,
+        HOP_BLOCKED,
+        HOP_EXECUTED,
+        // value: world switcher attempts
+        HOP_ABORTED
+    }
+
+    public enum Source
+    {
+        CHAT,
+        PANEL,
+        IMPORT,
+        HOPPER,
+        GAME
+    }
+
+    private static final Type[] TYPES = Type.values();
+    private static final Source[] SOURCES = Source.values();
+
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(CAPACITY * RECORD_SIZE);
+    // Total records ever written; the next record goes to slot written % CAPACITY
+    private long written;
+
+    /**
+     * Appends an event, overwriting the oldest one if the buffer is full. Any thread.
+     * @param value Type-specific detail, see {@link Type}; 0 if unused.
+     */
+    public synchronized void record(Type type, Source source, int world, int value)
+    {
+        int offset = (int) (written % CAPACITY) * RECORD_SIZE;
+        buffer.putLong(offset + TIMESTAMP_OFFSET, System.currentTimeMillis());
+        buffer.putShort(offset + WORLD_OFFSET, (short) world);
+        buffer.put(offset + TYPE_OFFSET, (byte) type.ordinal());
+        buffer.put(offset + SOURCE_OFFSET, (byte) source.ordinal());
+        buffer.putInt(offset + VALUE_OFFSET, value);
+        written++;
+    }
+
+    public synchronized int size()
+    {
+        return (int) Math.min(written, CAPACITY);
+    }
+
+    /**
+     * Returns the most recent events, newest first, one per line.
+     */
+    public String format(int max)
+    {
+        byte[] records;
+        int count;
+        synchronized (this)
+        {
+            count = Math.min(size(), max);
+            records = copyNewest(count);
+        }
+
+        StringBuilder sb = new StringBuilder(count * 64);
+        ByteBuffer view = ByteBuffer.wrap(records);
+        for (int i = 0; i < count; i++)
+        {
+            appendRecord(sb, view, i * RECORD_SIZE);
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes every buffered event, newest first, as text to a new file in the given directory.
+     * @return The file written.
+     */
+    public Path dump(Path directory) throws IOException
+    {
+        String text = format(CAPACITY);
+
+        Files.createDirectories(directory);
+        Path file = directory.resolve("maledictus-events-" + System.currentTimeMillis() + ".log");
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8))
+        {
+            writer.write(text);
+        }
+        return file;
+    }
+
+    // Copies the newest count records, newest first. Caller holds the lock.
+    private byte[] copyNewest(int count)
+    {
+        byte[] records = new byte[count * RECORD_SIZE];
+        ByteBuffer source = buffer.duplicate();
+        for (int i = 0; i < count; i++)
+        {
+            int offset = (int) ((written - 1 - i) % CAPACITY) * RECORD_SIZE;
+            source.position(offset);
+            source.get(records, i * RECORD_SIZE, RECORD_SIZE);
+        }
+        return records;
+    }
+
+    private static void appendRecord(StringBuilder sb, ByteBuffer records, int offset)
+    {
+        long timestamp = records.getLong(offset + TIMESTAMP_OFFSET);
+        int world = records.getShort(offset + WORLD_OFFSET) & 0xFFFF;
+        Type type = TYPES[records.get(offset + TYPE_OFFSET)];
+        Source source = SOURCES[records.get(offset + SOURCE_OFFSET)];
+        int value = records.getInt(offset + VALUE_OFFSET);
+
+        sb.append(TIME_FORMAT.format(Instant.ofEpochMilli(timestamp)))
+                .append(" W").append(world)
+                .append(' ').append(type)
+                .append(" from ").append(source);
+
+        switch (type)
+        {
+            case SPAWN:
+            case IMPORTED_TIMER:
+                sb.append(", eligible at ").append(TIME_FORMAT.format(Instant.ofEpochSecond(value & 0xFFFFFFFFL)));
+                break;
+            case MANUAL_TIMER:
+                sb.append(", ").append(value).append("m left");
+                break;
+            case HOP_ABORTED:
+                sb.append(" after ").append(value).append(" attempts");
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package com.osrspluginz.maledictus;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Optional read-only HTTP server bound to the loopback address, for browser sources and second screens:
+ * <ul>
+ *     <li>{@code GET /timers} returns the current timers as JSON.</li>
+ *     <li>{@code GET /events} is a server-sent-events stream that pushes the same JSON whenever it changes.</li>
+ * </ul>
+ * Timers are published as absolute eligibility times, so the JSON only changes with the timer store version.
+ * It is serialized once per version and the same bytes are handed to every request and stream.
+ * Each stream has a small bounded queue of frames written by a shared writer pool; a client that stops
+ * reading fills its queue and is dropped, without holding up other streams or the keepalives.
+ */
+public class TimerHttpServer
+{
+    private static final Logger log = LoggerFactory.getLogger(TimerHttpServer.class);
+
+    private static final int REQUEST_THREADS = 2;
+    private static final int STREAM_QUEUE_FRAMES = 16;
+    private static final long KEEPALIVE_SECONDS = 15;
+    private static final Serialized KEEPALIVE = new Serialized(-1, new byte[0], ": keepalive\n\n".getBytes(StandardCharsets.UTF_8));
+
+    /**
+     * JSON body and SSE frame for one timer store version.
+     */
+    static final class Serialized
+    {
+        final int version;
+        final byte[] json;
+        final byte[] event;
+
+        Serialized(int version, byte[] json, byte[] event)
+        {
+            this.version = version;
+            this.json = json;
+            this.event = event;
+        }
+    }
+
+    /**
+     * One connected /events client. Frames are queued by any thread and written by at most one writer task at a time.
+     */
+    private final class Stream
+    {
+        final HttpExchange exchange;
+        final BlockingQueue<Serialized> frames = new ArrayBlockingQueue<>(STREAM_QUEUE_FRAMES);
+        final AtomicBoolean writing = new AtomicBoolean();
+        // Newest timer version queued, so a frame computed earlier can never follow a newer one
+        int lastVersion = -1;
+        volatile boolean closed;
+
+        Stream(HttpExchange exchange)
+        {
+            this.exchange = exchange;
+        }
+
+        /**
+         * Queues a frame unless it is older than one already queued. Drops the client if its queue is full.
+         */
+        void send(Serialized frame)
+        {
+            synchronized (this)
+            {
+                if (closed || (frame != KEEPALIVE && frame.version <= lastVersion))
+                {
+                    return;
+                }
+                if (!frames.offer(frame))
+                {
+                    log.debug("Dropping timer stream client that stopped reading");
+                    close();
+                    return;
+                }
+                if (frame != KEEPALIVE)
+                {
+                    lastVersion = frame.version;
+                }
+            }
+
+            ExecutorService executor = writerExecutor;
+            if (executor != null && writing.compareAndSet(false, true))
+            {
+                executor.execute(this::write);
+            }
+        }
+
+        private void write()
+        {
+            try
+            {
+                OutputStream out = exchange.getResponseBody();
+                for (Serialized frame = frames.poll(); frame != null && !closed; frame = frames.poll())
+                {
+                    out.write(frame.event);
+                    out.flush();
+                }
+            }
+            catch (IOException ex)
+            {
+                // Client went away
+                close();
+            }
+            finally
+            {
+                writing.set(false);
+            }
+
+            // A frame may have been queued after the last poll but before the flag was cleared
+            if (!frames.isEmpty() && !closed && writing.compareAndSet(false, true))
+            {
+                ExecutorService executor = writerExecutor;
+                if (executor != null)
+                {
+                    executor.execute(this::write);
+                }
+                else
+                {
+                    writing.set(false);
+                }
+            }
+        }
+
+        synchronized void close()
+        {
+            if (closed)
+            {
+                return;
+            }
+            closed = true;
+            streams.remove(this);
+            frames.clear();
+
+            // Closing flushes the response, which can block on a stalled client, so it never runs on the caller
+            ExecutorService executor = writerExecutor;
+            try
+            {
+                if (executor != null)
+                {
+                    executor.execute(exchange::close);
+                    return;
+                }
+            }
+            catch (RejectedExecutionException ex)
+            {
+                // Server is stopping, its connections are already closed
+            }
+            exchange.close();
+        }
+    }
+
+    private final Supplier<TimerStore.Snapshot> snapshots;
+    private final List<Stream> streams = new CopyOnWriteArrayList<>();
+
+    private volatile Serialized serialized;
+    private HttpServer server;
+    private ExecutorService requestExecutor;
+    private ScheduledExecutorService streamExecutor;
+    // Writes stream frames; a stalled client ties up at most one of its threads until it is dropped
+    private volatile ExecutorService writerExecutor;
+
+    public TimerHttpServer(Supplier<TimerStore.Snapshot> snapshots)
+    {
+        this.snapshots = snapshots;
+    }
+
+    /**
+     * Starts listening on 127.0.0.1 (or the platform's loopback address) on the given port; 0 picks a free port.
+     */
+    public synchronized void start(int port) throws IOException
+    {
+        if (server != null)
+        {
+            return;
+        }
+
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        httpServer.createContext("/timers", this::handleTimers);
+        httpServer.createContext("/events", this::handleEvents);
+
+        requestExecutor = Executors.newFixedThreadPool(REQUEST_THREADS, daemon("maledictus-http"));
+        streamExecutor = Executors.newSingleThreadScheduledExecutor(daemon("maledictus-sse"));
+        streamExecutor.scheduleWithFixedDelay(() -> broadcast(KEEPALIVE), KEEPALIVE_SECONDS, KEEPALIVE_SECONDS, TimeUnit.SECONDS);
+        writerExecutor = Executors.newCachedThreadPool(daemon("maledictus-sse-writer"));
+
+        httpServer.setExecutor(requestExecutor);
+        httpServer.start();
+        server = httpServer;
+        log.debug("Maledictus timer server listening on {}", httpServer.getAddress());
+    }
+
+    public synchronized void stop()
+    {
+        if (server == null)
+        {
+            return;
+        }
+
+        server.stop(0);
+        server = null;
+        streamExecutor.shutdownNow();
+        requestExecutor.shutdownNow();
+        writerExecutor.shutdownNow();
+        writerExecutor = null;
+
+        for (Stream stream : streams)
+        {
+            stream.close();
+        }
+        streams.clear();
+    }
+
+    public synchronized int getPort()
+    {
+        return server != null ? server.getAddress().getPort() : -1;
+    }
+
+    /**
+     * Called after the timer store published a new snapshot. Queues it for stream clients off the calling thread.
+     */
+    public void publish(TimerStore.Snapshot snapshot)
+    {
+        ScheduledExecutorService executor;
+        synchronized (this)
+        {
+            executor = streamExecutor;
+            if (server == null || streams.isEmpty())
+            {
+                return;
+            }
+        }
+        try
+        {
+            executor.execute(() -> broadcast(serialize(snapshot)));
+        }
+        catch (RejectedExecutionException ex)
+        {
+            // Server stopped since the check, its streams are already closed
+        }
+    }
+
+    private void handleTimers(HttpExchange exchange) throws IOException
+    {
+        if (!"GET".equals(exchange.getRequestMethod()))
+        {
+            sendEmpty(exchange, 405);
+            return;
+        }
+
+        byte[] body = serialize(snapshots.get()).json;
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.getResponseHeaders().set("Access-Control-Allow-Origin", "*");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody())
+        {
+            out.write(body);
+        }
+    }
+
+    private void handleEvents(HttpExchange exchange) throws IOException
+    {
+        if (!"GET".equals(exchange.getRequestMethod()))
+        {
+            sendEmpty(exchange, 405);
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+        exchange.getResponseHeaders().set("Access-Control-Allow-Origin", "*");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+
+        // Register first so no publish is missed, then send the current state; the exchange stays open for broadcasts
+        Stream stream = new Stream(exchange);
+        streams.add(stream);
+        stream.send(serialize(snapshots.get()));
+    }
+
+    private void broadcast(Serialized frame)
+    {
+        for (Stream stream : streams)
+        {
+            stream.send(frame);
+        }
+    }
+
+    /**
+     * Returns the serialized form of the snapshot, reusing the cached bytes if the version is unchanged.
+     */
+    Serialized serialize(TimerStore.Snapshot snapshot)
+    {
+        Serialized cached = serialized;
+        if (cached != null && cached.version == snapshot.getVersion())
+        {
+            return cached;
+        }
+
+        synchronized (this)
+        {
+            cached = serialized;
+            if (cached != null && cached.version == snapshot.getVersion())
+            {
+                return cached;
+            }
+
+            String json = toJson(snapshot);
+            cached = new Serialized(snapshot.getVersion(),
+                    json.getBytes(StandardCharsets.UTF_8),
+                    ("event: timers\nid: " + snapshot.getVersion() + "\ndata: " + json + "\n\n").getBytes(StandardCharsets.UTF_8));
+            serialized = cached;
+            return cached;
+        }
+    }
+
+    /**
+     * {"version":3,"worlds":[{"world":302,"eligibleAt":1760000000000},{"world":303,"eligibleAt":null}]}
+     * with eligibleAt in epoch milliseconds, null for worlds with no data.
+     */
+    static String toJson(TimerStore.Snapshot snapshot)
+    {
+        List<MaledictusPlugin.WorldTimer> timers = new ArrayList<>(snapshot.getTimers());
+        timers.sort(Comparator.comparingInt(MaledictusPlugin.WorldTimer::getWorld));
+
+        StringBuilder sb = new StringBuilder(32 + timers.size() * 40);
+        sb.append("{\"version\":").append(snapshot.getVersion()).append(",\"worlds\":[");
+        for (int i = 0; i < timers.size(); i++)
+        {
+            MaledictusPlugin.WorldTimer timer = timers.get(i);
+            if (i > 0)
+            {
+                sb.append(',');
+            }
+            sb.append("{\"world\":").append(timer.getWorld()).append(",\"eligibleAt\":");
+            if (timer.getNextSpawn() == Instant.MIN)
+            {
+                sb.append("null");
+            }
+            else
+            {
+                sb.append(timer.getNextSpawn().toEpochMilli());
+            }
+            sb.append('}');
+        }
+        return sb.append("]}").toString();
+    }
+
+    private static void sendEmpty(HttpExchange exchange, int status) throws IOException
+    {
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+
+    private static ThreadFactory daemon(String name)
+    {
+        return r ->
+        {
+            Thread thread = new Thread(r, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
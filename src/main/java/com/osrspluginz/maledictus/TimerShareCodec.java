@@ -0,0 +1,298 @@
+package com.osrspluginz.maledictus;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reads and writes timers in bulk: free text as posted in chat ("W302 12m, W330 40m, W416 +3m")
+ * and compact share codes ("MAL1:..."), which carry absolute eligibility times so the delay between
+ * export and import does not skew them.
+ */
+public final class TimerShareCodec
+{
+    static final String SHARE_CODE_PREFIX = "MAL1:";
+
+    private static final int MAX_WORLD_ID = RevenantActivity.WORLD_ID_LIMIT - 1;
+    private static final int MAX_MINUTES = (int) MaledictusPlugin.RESET_TIMER.toMinutes();
+    // "+N" means eligible for N minutes; anything older than this is not worth sharing
+    private static final int MAX_ELAPSED_MINUTES = 999;
+    // Sanity bound for share code offsets and export times
+    private static final long MAX_OFFSET_SECONDS = Duration.ofDays(1).getSeconds();
+    private static final long MAX_EPOCH_SECOND = Instant.parse("3000-01-01T00:00:00Z").getEpochSecond();
+
+    private TimerShareCodec()
+    {
+    }
+
+    /**
+     * Parses pasted text or a share code into world -> eligibility time. Invalid entries in free text are skipped.
+     * @throws IllegalArgumentException if the text is a malformed share code.
+     */
+    public static Map<Integer, Instant> parse(String text, Instant now)
+    {
+        String trimmed = text.trim();
+        if (trimmed.regionMatches(true, 0, SHARE_CODE_PREFIX, 0, SHARE_CODE_PREFIX.length()))
+        {
+            return decode(trimmed.substring(SHARE_CODE_PREFIX.length()));
+        }
+        return parseText(trimmed, now);
+    }
+
+    /**
+     * Single pass over the text pairing numbers up as (world, time). A number directly after a 'W' always starts
+     * a new pair. A time is minutes unless it carries units ("1h", "12m30s") or is written as "12:30" (mm:ss),
+     * and directly after a '+' it is time since eligibility rather than time left. A time without a world is skipped.
+     */
+    static Map<Integer, Instant> parseText(CharSequence text, Instant now)
+    {
+        Map<Integer, Instant> result = new LinkedHashMap<>();
+        int pendingWorld = -1;
+        char prev = ' ';
+        int length = text.length();
+        int[] pos = {0};
+
+        while (pos[0] < length)
+        {
+            char c = text.charAt(pos[0]);
+            if (!isDigit(c))
+            {
+                prev = c;
+                pos[0]++;
+                continue;
+            }
+
+            int value = readNumber(text, pos);
+            boolean worldPrefix = prev == 'w' || prev == 'W';
+
+            if (worldPrefix || (pendingWorld < 0 && !hasTimeUnit(text, pos[0])))
+            {
+                pendingWorld = value;
+            }
+            else
+            {
+                long seconds = readDuration(text, pos, value);
+                if (prev == '+')
+                {
+                    seconds = -seconds;
+                }
+                if (pendingWorld > 0 && pendingWorld <= MAX_WORLD_ID
+                        && seconds >= -MAX_ELAPSED_MINUTES * 60L && seconds <= MAX_MINUTES * 60L)
+                {
+                    result.put(pendingWorld, now.plusSeconds(seconds));
+                }
+                pendingWorld = -1;
+            }
+
+            prev = '0';
+        }
+
+        return result;
+    }
+
+    private static boolean isDigit(char c)
+    {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int readNumber(CharSequence text, int[] pos)
+    {
+        int value = 0;
+        char c;
+        while (pos[0] < text.length() && isDigit(c = text.charAt(pos[0])))
+        {
+            // Saturate instead of overflowing; such values are rejected by the range checks
+            value = value > 100_000 ? value : value * 10 + (c - '0');
+            pos[0]++;
+        }
+        return value;
+    }
+
+    // True if a unit ("h", "m", "s") or an mm:ss separator follows the number ending at index
+    private static boolean hasTimeUnit(CharSequence text, int index)
+    {
+        if (index >= text.length())
+        {
+            return false;
+        }
+        switch (Character.toLowerCase(text.charAt(index)))
+        {
+            case 'h':
+            case 'm':
+            case 's':
+                return true;
+            case ':':
+                return index + 1 < text.length() && isDigit(text.charAt(index + 1));
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Reads the rest of a time whose first number has been read, e.g. "1h", "1h5m", "12m30s" or "12:30",
+     * and returns it in seconds. A number without a unit is minutes. Returns Long.MAX_VALUE if invalid.
+     */
+    private static long readDuration(CharSequence text, int[] pos, int value)
+    {
+        long seconds = 0;
+        while (true)
+        {
+            char unit = pos[0] < text.length() ? Character.toLowerCase(text.charAt(pos[0])) : ' ';
+            if (unit == ':' && hasTimeUnit(text, pos[0]))
+            {
+                pos[0]++;
+                int secs = readNumber(text, pos);
+                return secs < 60 ? seconds + value * 60L + secs : Long.MAX_VALUE;
+            }
+
+            switch (unit)
+            {
+                case 'h':
+                    seconds += value * 3600L;
+                    break;
+                case 'm':
+                    seconds += value * 60L;
+                    break;
+                case 's':
+                    seconds += value;
+                    break;
+                default:
+                    return seconds + value * 60L;
+            }
+
+            // Units may be chained directly: "1h30m", "12m30s"
+            pos[0]++;
+            if (pos[0] >= text.length() || !isDigit(text.charAt(pos[0])))
+            {
+                return seconds;
+            }
+            value = readNumber(text, pos);
+        }
+    }
+
+    /**
+     * Encodes timers as a share code: export time, then per world (sorted) the world id delta from the previous
+     * entry and the eligibility offset from the export time in seconds, all as varints, base64 encoded.
+     */
+    public static String encode(Collection<MaledictusPlugin.WorldTimer> timers, Instant now)
+    {
+        long base = now.getEpochSecond();
+        Map<Integer, Instant> sorted = new TreeMap<>();
+        for (MaledictusPlugin.WorldTimer timer : timers)
+        {
+            // Skip worlds with no data, and long-stale timers that decode() would reject
+            if (timer.getNextSpawn() != Instant.MIN
+                    && Math.abs(timer.getNextSpawn().getEpochSecond() - base) <= MAX_OFFSET_SECONDS)
+            {
+                sorted.put(timer.getWorld(), timer.getNextSpawn());
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8 + sorted.size() * 4);
+        writeVarLong(out, base);
+        writeVarLong(out, sorted.size());
+
+        int previousWorld = 0;
+        for (Map.Entry<Integer, Instant> entry : sorted.entrySet())
+        {
+            writeVarLong(out, entry.getKey() - previousWorld);
+            writeVarLong(out, zigZag(entry.getValue().getEpochSecond() - base));
+            previousWorld = entry.getKey();
+        }
+
+        return SHARE_CODE_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+    }
+
+    static Map<Integer, Instant> decode(String code)
+    {
+        byte[] data;
+        try
+        {
+            data = Base64.getUrlDecoder().decode(code.trim());
+        }
+        catch (IllegalArgumentException ex)
+        {
+            throw new IllegalArgumentException("Share code is not valid base64", ex);
+        }
+
+        int[] pos = {0};
+        long base = readVarLong(data, pos);
+        long count = readVarLong(data, pos);
+        if (base < 0 || base > MAX_EPOCH_SECOND)
+        {
+            throw new IllegalArgumentException("Share code has an invalid export time");
+        }
+        if (count < 0 || count > MAX_WORLD_ID)
+        {
+            throw new IllegalArgumentException("Share code has an invalid entry count");
+        }
+
+        Map<Integer, Instant> result = new LinkedHashMap<>();
+        long world = 0;
+        for (int i = 0; i < count; i++)
+        {
+            world += readVarLong(data, pos);
+            long offset = unZigZag(readVarLong(data, pos));
+            if (world <= 0 || world > MAX_WORLD_ID)
+            {
+                throw new IllegalArgumentException("Share code contains an invalid world");
+            }
+            // Not Math.abs, which leaves Long.MIN_VALUE negative
+            if (offset < -MAX_OFFSET_SECONDS || offset > MAX_OFFSET_SECONDS)
+            {
+                throw new IllegalArgumentException("Share code contains an invalid timer");
+            }
+            result.put((int) world, Instant.ofEpochSecond(base + offset));
+        }
+
+        if (pos[0] != data.length)
+        {
+            throw new IllegalArgumentException("Share code has trailing data");
+        }
+        return result;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value)
+    {
+        while ((value & ~0x7FL) != 0)
+        {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(byte[] data, int[] pos)
+    {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7)
+        {
+            if (pos[0] >= data.length)
+            {
+                throw new IllegalArgumentException("Share code is truncated");
+            }
+            byte b = data[pos[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+            {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Share code contains an invalid number");
+    }
+
+    private static long zigZag(long value)
+    {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value)
+    {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
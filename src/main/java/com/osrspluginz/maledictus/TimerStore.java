@@ -0,0 +1,187 @@
+package com.osrspluginz.maledictus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Owner of the world timers. All writes happen on a single thread (the client thread) by running commands
+ * taken from an {@link MpscCommandRing}; after a batch of commands changed anything, an immutable
+ * {@link Snapshot} is published through a volatile field. Readers on any thread only ever see snapshots.
+ * If the ring is full, commands spill into an unbounded overflow queue so producers never have to wait.
+ */
+public class TimerStore
+{
+    private static final int COMMAND_CAPACITY = 1024;
+
+    /**
+     * An immutable view of every world timer at one point in time.
+     */
+    public static final class Snapshot
+    {
+        static final Snapshot EMPTY = new Snapshot(Collections.emptyMap(), 0);
+
+        private final Map<Integer, MaledictusPlugin.WorldTimer> timers;
+        private final List<MaledictusPlugin.WorldTimer> list;
+        private final int version;
+
+        private Snapshot(Map<Integer, MaledictusPlugin.WorldTimer> timers, int version)
+        {
+            this.timers = Collections.unmodifiableMap(new HashMap<>(timers));
+            this.list = Collections.unmodifiableList(new ArrayList<>(timers.values()));
+            this.version = version;
+        }
+
+        public MaledictusPlugin.WorldTimer get(int world)
+        {
+            return timers.get(world);
+        }
+
+        public List<MaledictusPlugin.WorldTimer> getTimers()
+        {
+            return list;
+        }
+
+        public boolean isEmpty()
+        {
+            return list.isEmpty();
+        }
+
+        /**
+         * Increases with every published change, so readers can cache derived views.
+         */
+        public int getVersion()
+        {
+            return version;
+        }
+    }
+
+    private final MpscCommandRing commands = new MpscCommandRing(COMMAND_CAPACITY);
+    // Only used while the ring is full; once non-empty, new commands queue here too so each producer's order is kept
+    private final Queue<Runnable> overflow = new ConcurrentLinkedQueue<>();
+
+    // Writer state: only touched by commands running on the owning thread
+    private final Map<Integer, MaledictusPlugin.WorldTimer> timers = new HashMap<>();
+    private boolean dirty;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public Snapshot getSnapshot()
+    {
+        return snapshot;
+    }
+
+    /**
+     * Queues a command for the owning thread. Returns false if the ring is full or commands are waiting in the overflow.
+     */
+    boolean offer(Runnable command)
+    {
+        return overflow.isEmpty() && commands.offer(command);
+    }
+
+    /**
+     * Queues a command for the owning thread without ever blocking: if the ring cannot take it, it goes to the
+     * unbounded overflow queue, which is run after the ring. Returns false if the command overflowed.
+     */
+    boolean enqueue(Runnable command)
+    {
+        if (offer(command))
+        {
+            return true;
+        }
+        overflow.add(command);
+        return false;
+    }
+
+    /**
+     * Runs every queued command and publishes a new snapshot if any of them changed a timer.
+     * Must only be called on the owning thread. Returns true if a new snapshot was published.
+     */
+    boolean drain()
+    {
+        commands.drain();
+
+        // Overflowed commands are newer than everything in the ring, so only run them once the ring is empty
+        // (a claimed but unpublished slot stops the ring drain; its producer schedules another drain)
+        if (commands.isEmpty())
+        {
+            Runnable command;
+            while ((command = overflow.poll()) != null)
+            {
+                command.run();
+            }
+        }
+        return publish();
+    }
+
+    /**
+     * Publishes a new snapshot if the writer state changed since the last one. Owning thread only.
+     */
+    boolean publish()
+    {
+        if (!dirty)
+        {
+            return false;
+        }
+        dirty = false;
+        snapshot = new Snapshot(timers, snapshot.getVersion() + 1);
+        return true;
+    }
+
+    // --- Writer API: only valid inside commands, or otherwise on the owning thread ---
+
+    MaledictusPlugin.WorldTimer get(int world)
+    {
+        return timers.get(world);
+    }
+
+    void put(MaledictusPlugin.WorldTimer timer)
+    {
+        timers.put(timer.getWorld(), timer);
+        dirty = true;
+    }
+
+    boolean putIfAbsent(MaledictusPlugin.WorldTimer timer)
+    {
+        if (timers.putIfAbsent(timer.getWorld(), timer) != null)
+        {
+            return false;
+        }
+        dirty = true;
+        return true;
+    }
+
+    void remove(int world)
+    {
+        if (timers.remove(world) != null)
+        {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Forces the next publish to create a new snapshot version, for changes to data derived from the timers.
+     */
+    void touch()
+    {
+        dirty = true;
+    }
+
+    boolean isEmpty()
+    {
+        return timers.isEmpty();
+    }
+
+    void clear()
+    {
+        if (!timers.isEmpty())
+        {
+            timers.clear();
+            dirty = true;
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.osrspluginz.maledictus;
+
+import net.runelite.client.ui.ColorScheme;
+import net.runelite.client.ui.FontManager;
+import net.runelite.client.ui.PluginPanel;
+
+import javax.swing.JComponent;
+import javax.swing.JMenuItem;
+import javax.swing.JPopupMenu;
+import javax.swing.SwingUtilities;
+import javax.swing.ToolTipManager;
+import java.awt.Color;
+import java.awt.Cursor;
+import java.awt.Dimension;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.List;
+
+/**
+ * Compact alternative to the panel's row list: every world is a small colored tile painted by this one
+ * component, showing the world number and a minute-resolution countdown. Refreshes only repaint the tiles
+ * whose text, color or watch marker changed, so a refresh of a 200 world overview is usually a few tiles.
+ * Double-click a tile to hop, right-click to watch. EDT only.
+ */
+public class WorldGridView extends JComponent
+{
+    private static final int TILE_WIDTH = 40;
+    private static final int TILE_HEIGHT = 32;
+    private static final int GAP = 4;
+    private static final int ARC = 6;
+
+    /**
+     * What one tile currently shows.
+     */
+    private static final class Tile
+    {
+        MaledictusPlugin.WorldTimer timer;
+        String worldText;
+        String countdown;
+        Color color;
+        boolean watched;
+    }
+
+    private final MaledictusPlugin plugin;
+
+    private Tile[] tiles = new Tile[0];
+    private int tileCount;
+    private int columns = 1;
+    private int hovered = -1;
+
+    public WorldGridView(MaledictusPlugin plugin)
+    {
+        this.plugin = plugin;
+
+        setOpaque(true);
+        setBackground(ColorScheme.DARK_GRAY_COLOR);
+        setCursor(new Cursor(Cursor.HAND_CURSOR));
+        ToolTipManager.sharedInstance().registerComponent(this);
+
+        MouseAdapter mouse = new MouseAdapter()
+        {
+            @Override
+            public void mouseMoved(MouseEvent e)
+            {
+                setHovered(tileAt(e.getX(), e.getY()));
+            }
+
+            @Override
+            public void mouseExited(MouseEvent e)
+            {
+                setHovered(-1);
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e)
+            {
+                int index = tileAt(e.getX(), e.getY());
+                if (index < 0)
+                {
+                    return;
+                }
+
+                if (SwingUtilities.isRightMouseButton(e))
+                {
+                    showWatchMenu(tiles[index].timer.getWorld(), e);
+                }
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e)
+            {
+                int index = tileAt(e.getX(), e.getY());
+                if (index >= 0 && SwingUtilities.isLeftMouseButton(e) && e.getClickCount() == 2)
+                {
+                    plugin.hopTo(tiles[index].timer.getWorld());
+                }
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+    }
+
+    /**
+     * Shows the given timers, in order. If the listed worlds are unchanged, only tiles whose content changed are repainted.
+     */
+    public void setTimers(List<MaledictusPlugin.WorldTimer> timers)
+    {
+        boolean sameWorlds = timers.size() == tileCount;
+        for (int i = 0; sameWorlds && i < tileCount; i++)
+        {
+            sameWorlds = tiles[i].timer.getWorld() == timers.get(i).getWorld();
+        }
+
+        if (!sameWorlds)
+        {
+            // Different worlds or order: re-lay out and repaint everything
+            if (tiles.length < timers.size())
+            {
+                Tile[] grown = new Tile[timers.size()];
+                System.arraycopy(tiles, 0, grown, 0, tiles.length);
+                tiles = grown;
+            }
+            tileCount = timers.size();
+            hovered = -1;
+
+            for (int i = 0; i < tileCount; i++)
+            {
+                if (tiles[i] == null)
+                {
+                    tiles[i] = new Tile();
+                }
+                Tile tile = tiles[i];
+                tile.timer = timers.get(i);
+                tile.worldText = Integer.toString(tile.timer.getWorld());
+                updateTile(tile);
+            }
+
+            revalidate();
+            repaint();
+            return;
+        }
+
+        for (int i = 0; i < tileCount; i++)
+        {
+            Tile tile = tiles[i];
+            tile.timer = timers.get(i);
+            if (updateTile(tile))
+            {
+                repaintTile(i);
+            }
+        }
+    }
+
+    /**
+     * Recomputes what a tile shows. Returns true if anything visible changed.
+     */
+    private boolean updateTile(Tile tile)
+    {
+        long remaining = tile.timer.secondsLeft();
+        String countdown = getCountdown(remaining);
+        Color color = getTimerColor(remaining);
+        boolean watched = plugin.isWatched(tile.timer.getWorld());
+
+        if (countdown.equals(tile.countdown) && color.equals(tile.color) && watched == tile.watched)
+        {
+            return false;
+        }
+
+        tile.countdown = countdown;
+        tile.color = color;
+        tile.watched = watched;
+        return true;
+    }
+
+    /**
+     * Short countdown that changes once a minute, or once a second during the last minute.
+     */
+    static String getCountdown(long remaining)
+    {
+        if (remaining == Long.MAX_VALUE)
+        {
+            return "-";
+        }
+
+        long abs = Math.abs(remaining);
+        String text = abs < 60 && remaining > 0 ? abs + "s" : abs / 60 + "m";
+        return remaining <= 0 ? "+" + text : text;
+    }
+
+    // Same colors as the row list: white 45-15m, red 15-0m, cyan eligible, gray no data
+    private static Color getTimerColor(long remaining)
+    {
+        if (remaining == Long.MAX_VALUE)
+        {
+            return Color.LIGHT_GRAY;
+        }
+        if (remaining <= 0)
+        {
+            return Color.CYAN;
+        }
+        if (remaining <= MaledictusPlugin.TIME_RED_THRESHOLD_SECS)
+        {
+            return Color.RED;
+        }
+        return Color.WHITE;
+    }
+
+    // --- LAYOUT & HIT TESTING ---
+
+    private int getColumns()
+    {
+        int width = getWidth() > 0 ? getWidth() : PluginPanel.PANEL_WIDTH;
+        return Math.max(1, (width + GAP) / (TILE_WIDTH + GAP));
+    }
+
+    private Rectangle getTileBounds(int index, Rectangle bounds)
+    {
+        bounds.setBounds((index % columns) * (TILE_WIDTH + GAP), (index / columns) * (TILE_HEIGHT + GAP), TILE_WIDTH, TILE_HEIGHT);
+        return bounds;
+    }
+
+    private void repaintTile(int index)
+    {
+        columns = getColumns();
+        repaint(getTileBounds(index, new Rectangle()));
+    }
+
+    private int tileAt(int x, int y)
+    {
+        columns = getColumns();
+        int column = x / (TILE_WIDTH + GAP);
+        int row = y / (TILE_HEIGHT + GAP);
+        if (x < 0 || y < 0 || column >= columns
+                || x % (TILE_WIDTH + GAP) >= TILE_WIDTH || y % (TILE_HEIGHT + GAP) >= TILE_HEIGHT)
+        {
+            return -1; // Outside the grid or in a gap
+        }
+
+        int index = row * columns + column;
+        return index < tileCount ? index : -1;
+    }
+
+    private void setHovered(int index)
+    {
+        if (index == hovered)
+        {
+            return;
+        }
+
+        int previous = hovered;
+        hovered = index;
+        if (previous >= 0)
+        {
+            repaintTile(previous);
+        }
+        if (index >= 0)
+        {
+            repaintTile(index);
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize()
+    {
+        int rows = (tileCount + getColumns() - 1) / getColumns();
+        return new Dimension(PluginPanel.PANEL_WIDTH, Math.max(0, rows * (TILE_HEIGHT + GAP) - GAP));
+    }
+
+    @Override
+    public String getToolTipText(MouseEvent e)
+    {
+        int index = tileAt(e.getX(), e.getY());
+        if (index < 0)
+        {
+            return null;
+        }
+
+        MaledictusPlugin.WorldTimer timer = tiles[index].timer;
+        RevenantActivity activity = plugin.getActivity();
+        int world = timer.getWorld();
+        return "W" + world + ": " + timer.getDisplayText()
+                + " (revenant kills seen: " + activity.getKills(world) + ", time in caves: " + activity.getCaveMillis(world) / 60_000 + "m)";
+    }
+
+    // --- PAINTING ---
+
+    @Override
+    protected void paintComponent(Graphics g)
+    {
+        Graphics2D g2 = (Graphics2D) g;
+        Rectangle clip = g2.getClipBounds();
+        if (clip == null)
+        {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+
+        g2.setColor(getBackground());
+        g2.fillRect(clip.x, clip.y, clip.width, clip.height);
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        columns = getColumns();
+        Rectangle bounds = new Rectangle();
+
+        // Only visit the rows that intersect the clip (a dirty tile repaint is a single tile)
+        int firstRow = Math.max(0, clip.y / (TILE_HEIGHT + GAP));
+        int lastRow = (clip.y + clip.height) / (TILE_HEIGHT + GAP);
+        int end = Math.min(tileCount, (lastRow + 1) * columns);
+        for (int i = firstRow * columns; i < end; i++)
+        {
+            if (getTileBounds(i, bounds).intersects(clip))
+            {
+                paintTile(g2, tiles[i], i == hovered, bounds);
+            }
+        }
+    }
+
+    private void paintTile(Graphics2D g, Tile tile, boolean hover, Rectangle bounds)
+    {
+        g.setColor(hover ? ColorScheme.DARK_GRAY_HOVER_COLOR : ColorScheme.DARKER_GRAY_COLOR);
+        g.fillRoundRect(bounds.x, bounds.y, bounds.width, bounds.height, ARC, ARC);
+
+        // State color strip along the bottom, orange marker on the left edge for watched worlds
+        g.setColor(tile.color);
+        g.fillRect(bounds.x + 2, bounds.y + bounds.height - 3, bounds.width - 4, 2);
+        if (tile.watched)
+        {
+            g.setColor(ColorScheme.BRAND_ORANGE);
+            g.fillRect(bounds.x, bounds.y + 2, 2, bounds.height - 4);
+        }
+
+        g.setFont(FontManager.getRunescapeFont());
+        FontMetrics metrics = g.getFontMetrics();
+        g.setColor(tile.color);
+        g.drawString(tile.worldText, bounds.x + (bounds.width - metrics.stringWidth(tile.worldText)) / 2, bounds.y + metrics.getAscent());
+
+        g.setFont(FontManager.getRunescapeSmallFont());
+        metrics = g.getFontMetrics();
+        g.drawString(tile.countdown, bounds.x + (bounds.width - metrics.stringWidth(tile.countdown)) / 2, bounds.y + bounds.height - 5);
+    }
+
+    private void showWatchMenu(int world, MouseEvent e)
+    {
+        JMenuItem watchItem = new JMenuItem(plugin.isWatched(world) ? "Stop watching W" + world : "Watch W" + world);
+        watchItem.addActionListener(ev -> plugin.toggleWatch(world));
+
+        JPopupMenu menu = new JPopupMenu();
+        menu.add(watchItem);
+        menu.show(this, e.getX(), e.getY());
+    }
+}
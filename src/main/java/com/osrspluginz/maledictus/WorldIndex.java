@@ -0,0 +1,278 @@
+package com.osrspluginz.maledictus;
+
+import net.runelite.api.WorldType;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumSet;
+
+/**
+ * Bitset indexes over world ids used by the panel filters. World metadata (types, location) is indexed once
+ * when the world list loads; timer states are re-indexed only when a timer changes or a world crosses a
+ * threshold, so a filter change or a per-second refresh is a handful of bitset intersections.
+ */
+public class WorldIndex
+{
+    // World location codes as reported by the world list
+    private static final int LOCATION_US = 0;
+    private static final int LOCATION_UK = 1;
+    private static final int LOCATION_AUSTRALIA = 3;
+    private static final int LOCATION_GERMANY = 7;
+
+    public enum TypeFilter
+    {
+        ALL("All worlds"),
+        PVP("PvP"),
+        HIGH_RISK("High risk"),
+        TOTAL_LEVEL("Total level"),
+        US("US"),
+        UK("UK"),
+        GERMANY("Germany"),
+        AUSTRALIA("Australia");
+
+        private final String name;
+
+        TypeFilter(String name)
+        {
+            this.name = name;
+        }
+
+        @Override
+        public String toString()
+        {
+            return name;
+        }
+    }
+
+    public enum StateFilter
+    {
+        ALL("Any state"),
+        NO_DATA("No data"),
+        WHITE("45-15m left"),
+        RED("15-0m left"),
+        ELIGIBLE("Eligible");
+
+        private final String name;
+
+        StateFilter(String name)
+        {
+            this.name = name;
+        }
+
+        @Override
+        public String toString()
+        {
+            return name;
+        }
+    }
+
+    // --- World metadata indexes (rebuilt with the world list) ---
+    private final BitSet pvp = new BitSet();
+    private final BitSet highRisk = new BitSet();
+    private final BitSet totalLevel = new BitSet();
+    private final BitSet us = new BitSet();
+    private final BitSet uk = new BitSet();
+    private final BitSet germany = new BitSet();
+    private final BitSet australia = new BitSet();
+
+    // --- Timer state indexes (rebuilt on timer change or threshold crossing) ---
+    private final BitSet present = new BitSet();
+    private final BitSet noData = new BitSet();
+    private final BitSet white = new BitSet();
+    private final BitSet red = new BitSet();
+    private final BitSet eligible = new BitSet();
+    private int stateVersion = -1;
+    private Instant nextTransition = Instant.MIN;
+
+    // --- World number search (rebuilt when the text or the world set changes) ---
+    private final BitSet searchMatches = new BitSet();
+    private String searchText = "";
+    private int searchVersion = -1;
+
+    /**
+     * Indexes the metadata of one world. Call for every world when the world list (re)loads.
+     */
+    public synchronized void putWorld(int id, EnumSet<WorldType> types, int location)
+    {
+        pvp.set(id, types.contains(WorldType.PVP));
+        highRisk.set(id, types.contains(WorldType.HIGH_RISK));
+        totalLevel.set(id, types.contains(WorldType.SKILL_TOTAL));
+        us.set(id, location == LOCATION_US);
+        uk.set(id, location == LOCATION_UK);
+        germany.set(id, location == LOCATION_GERMANY);
+        australia.set(id, location == LOCATION_AUSTRALIA);
+    }
+
+    /**
+     * Drops a world from the metadata indexes (e.g. it left the world list).
+     */
+    public synchronized void removeWorld(int id)
+    {
+        for (BitSet set : new BitSet[]{pvp, highRisk, totalLevel, us, uk, germany, australia})
+        {
+            set.clear(id);
+        }
+    }
+
+    public synchronized void clear()
+    {
+        for (BitSet set : new BitSet[]{pvp, highRisk, totalLevel, us, uk, germany, australia, present, noData, white, red, eligible, searchMatches})
+        {
+            set.clear();
+        }
+        stateVersion = -1;
+        searchVersion = -1;
+    }
+
+    /**
+     * Returns the ids of the given timers' worlds that pass all filters.
+     * @param version The plugin's timer version, used to tell whether the state index is still valid.
+     * @param search A world number prefix; empty to match every world.
+     */
+    public synchronized BitSet filter(Collection<MaledictusPlugin.WorldTimer> timers, int version, Instant now,
+                                      TypeFilter type, StateFilter state, String search)
+    {
+        updateStates(timers, version, now);
+
+        BitSet result = (BitSet) present.clone();
+        if (type != TypeFilter.ALL)
+        {
+            result.and(typeSet(type));
+        }
+        if (state != StateFilter.ALL)
+        {
+            result.and(stateSet(state));
+        }
+        if (!search.isEmpty())
+        {
+            result.and(searchSet(search, version));
+        }
+        return result;
+    }
+
+    private void updateStates(Collection<MaledictusPlugin.WorldTimer> timers, int version, Instant now)
+    {
+        if (version == stateVersion && now.isBefore(nextTransition))
+        {
+            return;
+        }
+
+        present.clear();
+        noData.clear();
+        white.clear();
+        red.clear();
+        eligible.clear();
+        Instant next = Instant.MAX;
+
+        for (MaledictusPlugin.WorldTimer timer : timers)
+        {
+            int world = timer.getWorld();
+            Instant eligibleAt = timer.getNextSpawn();
+            present.set(world);
+
+            if (eligibleAt == Instant.MIN)
+            {
+                noData.set(world);
+                continue;
+            }
+
+            // Same second-based rule as WorldTimer.getSkull(), so filters agree with the colors shown
+            long remaining = timer.secondsLeft(now);
+            if (remaining > MaledictusPlugin.TIME_RED_THRESHOLD_SECS)
+            {
+                white.set(world);
+                Instant redAt = whenSecondsLeft(eligibleAt, MaledictusPlugin.TIME_RED_THRESHOLD_SECS);
+                next = redAt.isBefore(next) ? redAt : next;
+            }
+            else if (remaining > 0)
+            {
+                red.set(world);
+                Instant eligibleFrom = whenSecondsLeft(eligibleAt, 0);
+                next = eligibleFrom.isBefore(next) ? eligibleFrom : next;
+            }
+            else
+            {
+                eligible.set(world);
+            }
+        }
+
+        stateVersion = version;
+        nextTransition = next;
+    }
+
+    // First instant at which secondsLeft() reaches the given value; it truncates, so just after eligibleAt - (seconds + 1)
+    private static Instant whenSecondsLeft(Instant eligibleAt, long seconds)
+    {
+        return eligibleAt.minusSeconds(seconds + 1).plusNanos(1);
+    }
+
+    /**
+     * Returns the next time a world changes state (white to red, red to eligible) as of the last filter call.
+     */
+    public synchronized Instant getNextTransition()
+    {
+        return nextTransition;
+    }
+
+    private BitSet typeSet(TypeFilter type)
+    {
+        switch (type)
+        {
+            case PVP:
+                return pvp;
+            case HIGH_RISK:
+                return highRisk;
+            case TOTAL_LEVEL:
+                return totalLevel;
+            case US:
+                return us;
+            case UK:
+                return uk;
+            case GERMANY:
+                return germany;
+            case AUSTRALIA:
+                return australia;
+            default:
+                return present;
+        }
+    }
+
+    private BitSet stateSet(StateFilter state)
+    {
+        switch (state)
+        {
+            case NO_DATA:
+                return noData;
+            case WHITE:
+                return white;
+            case RED:
+                return red;
+            case ELIGIBLE:
+                return eligible;
+            default:
+                return present;
+        }
+    }
+
+    private BitSet searchSet(String search, int version)
+    {
+        if (version == searchVersion && search.equals(searchText))
+        {
+            return searchMatches;
+        }
+
+        searchMatches.clear();
+        for (int world = present.nextSetBit(0); world >= 0; world = present.nextSetBit(world + 1))
+        {
+            if (Integer.toString(world).startsWith(search))
+            {
+                searchMatches.set(world);
+            }
+        }
+
+        searchText = search;
+        searchVersion = version;
+        return searchMatches;
+    }
+}
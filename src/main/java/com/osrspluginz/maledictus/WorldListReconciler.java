@@ -0,0 +1,132 @@
+package com.osrspluginz.maledictus;
+
+import net.runelite.api.World;
+import net.runelite.api.WorldType;
+import net.runelite.client.util.WorldUtil;
+
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Diffs a fresh world list against the worlds currently tracked, in O(n) using bitsets over world ids.
+ * Worlds missing from the list are only evicted after {@link #EVICTION_GRACE_MILLIS}, so a world that
+ * briefly drops out (restart, list fetch hiccup) keeps its timer. Client thread only.
+ */
+class WorldListReconciler
+{
+    static final long EVICTION_GRACE_MILLIS = 15 * 60 * 1000;
+
+    /**
+     * Receives the outcome of a reconciliation, one callback per changed world.
+     */
+    interface Listener
+    {
+        void added(int worldId, EnumSet<WorldType> types, int location);
+
+        void retyped(int worldId, EnumSet<WorldType> types, int location);
+
+        void evicted(int worldId);
+    }
+
+    private final BitSet tracked = new BitSet();
+    private final long[] typeMasks = new long[RevenantActivity.WORLD_ID_LIMIT];
+    private final int[] locations = new int[RevenantActivity.WORLD_ID_LIMIT];
+    private final long[] missingSince = new long[RevenantActivity.WORLD_ID_LIMIT];
+
+    // Scratch sets reused between runs
+    private final BitSet current = new BitSet();
+    private final BitSet scratch = new BitSet();
+
+    /**
+     * Reconciles the tracked worlds with the client's world list. Returns the ids of every added, retyped or evicted world.
+     */
+    BitSet reconcile(World[] worlds, long nowMillis, Listener listener)
+    {
+        BitSet changed = new BitSet();
+        current.clear();
+        for (World world : worlds)
+        {
+            update(world.getId(), world.getTypes(), world.getLocation(), listener, changed);
+        }
+        evictMissing(nowMillis, listener, changed);
+        return changed;
+    }
+
+    /**
+     * As {@link #reconcile(World[], long, Listener)}, for the world service's list, so no client worlds are created.
+     */
+    BitSet reconcile(List<net.runelite.http.api.worlds.World> worlds, long nowMillis, Listener listener)
+    {
+        BitSet changed = new BitSet();
+        current.clear();
+        for (net.runelite.http.api.worlds.World world : worlds)
+        {
+            update(world.getId(), WorldUtil.toWorldTypes(world.getTypes()), world.getLocation(), listener, changed);
+        }
+        evictMissing(nowMillis, listener, changed);
+        return changed;
+    }
+
+    // Added and retyped worlds
+    private void update(int id, EnumSet<WorldType> types, int location, Listener listener, BitSet changed)
+    {
+        if (id <= 0 || id >= RevenantActivity.WORLD_ID_LIMIT || !MaledictusPlugin.isTrackedWorld(types))
+        {
+            return;
+        }
+
+        current.set(id);
+        missingSince[id] = 0;
+        long mask = toMask(types);
+
+        if (!tracked.get(id))
+        {
+            tracked.set(id);
+            typeMasks[id] = mask;
+            locations[id] = location;
+            listener.added(id, types, location);
+            changed.set(id);
+        }
+        else if (typeMasks[id] != mask || locations[id] != location)
+        {
+            typeMasks[id] = mask;
+            locations[id] = location;
+            listener.retyped(id, types, location);
+            changed.set(id);
+        }
+    }
+
+    // Tracked worlds missing from this list: start or continue their grace period
+    private void evictMissing(long nowMillis, Listener listener, BitSet changed)
+    {
+        scratch.clear();
+        scratch.or(tracked);
+        scratch.andNot(current);
+        for (int id = scratch.nextSetBit(0); id >= 0; id = scratch.nextSetBit(id + 1))
+        {
+            if (missingSince[id] == 0)
+            {
+                missingSince[id] = nowMillis;
+            }
+            else if (nowMillis - missingSince[id] >= EVICTION_GRACE_MILLIS)
+            {
+                tracked.clear(id);
+                typeMasks[id] = 0;
+                missingSince[id] = 0;
+                listener.evicted(id);
+                changed.set(id);
+            }
+        }
+    }
+
+    private static long toMask(EnumSet<WorldType> types)
+    {
+        long mask = 0;
+        for (WorldType type : types)
+        {
+            mask |= 1L << (type.ordinal() & 63);
+        }
+        return mask;
+    }
+}
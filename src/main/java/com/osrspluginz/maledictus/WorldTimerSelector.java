@@ -0,0 +1,110 @@
+package com.osrspluginz.maledictus;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Picks the N worlds the overlay lists, using a bounded heap instead of sorting every timer.
+ * The selection only changes when a timer is set or when a world crosses into eligibility,
+ * so it is cached until the plugin's timer version changes or the next world crosses into eligibility.
+ */
+class WorldTimerSelector
+{
+    private static final Comparator<MaledictusPlugin.WorldTimer> BY_ELIGIBILITY =
+            Comparator.comparing(MaledictusPlugin.WorldTimer::getNextSpawn);
+
+    // SOONEST keeps the N earliest upcoming timers: max-heap so the latest is evicted first
+    private final PriorityQueue<MaledictusPlugin.WorldTimer> soonestHeap = new PriorityQueue<>(BY_ELIGIBILITY.reversed());
+    // RECENT keeps the N latest past timers: min-heap so the oldest is evicted first
+    private final PriorityQueue<MaledictusPlugin.WorldTimer> recentHeap = new PriorityQueue<>(BY_ELIGIBILITY);
+
+    private final List<MaledictusPlugin.WorldTimer> selected = new ArrayList<>();
+
+    private int version = -1;
+    private int limit = -1;
+    private int excludedWorld = -1;
+    private OverlayListMode mode;
+    private Instant validUntil = Instant.MIN;
+
+    /**
+     * Returns true if the cached selection no longer matches the given inputs and {@link #select} must run.
+     */
+    boolean isStale(int version, int limit, OverlayListMode mode, int excludedWorld, Instant now)
+    {
+        return version != this.version
+                || limit != this.limit
+                || mode != this.mode
+                || excludedWorld != this.excludedWorld
+                || !now.isBefore(validUntil);
+    }
+
+    /**
+     * Selects up to {@code limit} timers in display order, skipping {@code excludedWorld} and worlds with no data.
+     */
+    void select(Collection<MaledictusPlugin.WorldTimer> timers, int version, int limit, OverlayListMode mode, int excludedWorld, Instant now)
+    {
+        this.version = version;
+        this.limit = limit;
+        this.mode = mode;
+        this.excludedWorld = excludedWorld;
+
+        PriorityQueue<MaledictusPlugin.WorldTimer> heap = mode == OverlayListMode.RECENT ? recentHeap : soonestHeap;
+        heap.clear();
+        selected.clear();
+
+        // Earliest upcoming eligibility over all listable worlds
+        Instant nextCrossing = Instant.MAX;
+
+        for (MaledictusPlugin.WorldTimer timer : timers)
+        {
+            Instant eligibility = timer.getNextSpawn();
+            if (timer.getWorld() == excludedWorld || eligibility == Instant.MIN)
+            {
+                continue;
+            }
+
+            boolean upcoming = eligibility.isAfter(now);
+            if (upcoming && eligibility.isBefore(nextCrossing))
+            {
+                nextCrossing = eligibility;
+            }
+
+            if (limit <= 0 || upcoming != (mode == OverlayListMode.SOONEST))
+            {
+                continue;
+            }
+
+            if (heap.size() < limit)
+            {
+                heap.add(timer);
+            }
+            else if (heap.comparator().compare(timer, heap.peek()) > 0)
+            {
+                heap.poll();
+                heap.add(timer);
+            }
+        }
+
+        // The heap drains worst-first, so fill the list back to front
+        for (int i = heap.size(); i > 0; i--)
+        {
+            selected.add(null);
+        }
+        for (int i = selected.size() - 1; i >= 0; i--)
+        {
+            selected.set(i, heap.poll());
+        }
+
+        // At the next crossing the first SOONEST world drops out, or a new RECENT world comes in
+        validUntil = nextCrossing;
+    }
+
+    List<MaledictusPlugin.WorldTimer> getSelected()
+    {
+        return selected;
+    }
+}
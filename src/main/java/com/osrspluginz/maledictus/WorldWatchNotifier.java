@@ -0,0 +1,185 @@
+package com.osrspluginz.maledictus;
+
+import net.runelite.client.Notifier;
+import net.runelite.client.config.ConfigManager;
+
+import javax.inject.Inject;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends desktop notifications for watched worlds. Each watched world has at most two pending deadlines
+ * (entering the red window, becoming eligible) on the client's scheduler; they are rescheduled whenever
+ * that world's timer changes, so nothing scans the world list while waiting.
+ */
+public class WorldWatchNotifier
+{
+    static final String WATCHED_WORLDS_KEY = "watchedWorlds";
+
+    private final ScheduledExecutorService executor;
+    private final Notifier notifier;
+    private final ConfigManager configManager;
+    private final MaledictusConfig config;
+
+    private final Set<Integer> watched = new HashSet<>();
+    private final Map<Integer, ScheduledFuture<?>> redDeadlines = new HashMap<>();
+    private final Map<Integer, ScheduledFuture<?>> eligibleDeadlines = new HashMap<>();
+
+    @Inject
+    WorldWatchNotifier(ScheduledExecutorService executor, Notifier notifier, ConfigManager configManager, MaledictusConfig config)
+    {
+        this.executor = executor;
+        this.notifier = notifier;
+        this.configManager = configManager;
+        this.config = config;
+    }
+
+    /**
+     * Restores the watch list saved in the config.
+     */
+    public synchronized void start()
+    {
+        watched.clear();
+        for (String world : config.watchedWorlds().split(","))
+        {
+            try
+            {
+                watched.add(Integer.parseInt(world.trim()));
+            }
+            catch (NumberFormatException ex)
+            {
+                // Ignore empty or malformed entries
+            }
+        }
+    }
+
+    public synchronized void stop()
+    {
+        redDeadlines.values().forEach(f -> f.cancel(false));
+        eligibleDeadlines.values().forEach(f -> f.cancel(false));
+        redDeadlines.clear();
+        eligibleDeadlines.clear();
+        watched.clear();
+    }
+
+    public synchronized boolean isWatched(int world)
+    {
+        return watched.contains(world);
+    }
+
+    /**
+     * Toggles the watch on a world and returns whether it is now watched.
+     * @param timer The world's current timer, used to schedule its deadlines. May be null.
+     */
+    public synchronized boolean toggleWatch(int world, MaledictusPlugin.WorldTimer timer)
+    {
+        boolean nowWatched;
+        if (watched.remove(world))
+        {
+            cancel(world);
+            nowWatched = false;
+        }
+        else
+        {
+            watched.add(world);
+            schedule(world, timer);
+            nowWatched = true;
+        }
+
+        saveWatchList();
+        return nowWatched;
+    }
+
+    /**
+     * Re-arms the deadlines of a world after its timer was set. Unwatched worlds cost one set lookup.
+     */
+    public synchronized void onTimerChanged(MaledictusPlugin.WorldTimer timer)
+    {
+        if (watched.contains(timer.getWorld()))
+        {
+            schedule(timer.getWorld(), timer);
+        }
+    }
+
+    private void schedule(int world, MaledictusPlugin.WorldTimer timer)
+    {
+        cancel(world);
+
+        if (timer == null || timer.getNextSpawn() == Instant.MIN)
+        {
+            return;
+        }
+
+        Instant eligibleAt = timer.getNextSpawn();
+        Instant redAt = eligibleAt.minusSeconds(MaledictusPlugin.TIME_RED_THRESHOLD_SECS);
+
+        ScheduledFuture<?> red = scheduleAt(redAt, () ->
+        {
+            if (config.notifyRedWindow())
+            {
+                notifier.notify("W" + world + " Maledictus can spawn in "
+                        + Duration.ofSeconds(MaledictusPlugin.TIME_RED_THRESHOLD_SECS).toMinutes() + " minutes.");
+            }
+        });
+        if (red != null)
+        {
+            redDeadlines.put(world, red);
+        }
+
+        ScheduledFuture<?> eligible = scheduleAt(eligibleAt, () ->
+        {
+            if (config.notifyEligible())
+            {
+                notifier.notify("W" + world + " is now eligible for a Maledictus spawn.");
+            }
+        });
+        if (eligible != null)
+        {
+            eligibleDeadlines.put(world, eligible);
+        }
+    }
+
+    // Deadlines already in the past are not notified
+    private ScheduledFuture<?> scheduleAt(Instant deadline, Runnable task)
+    {
+        long delay = Duration.between(Instant.now(), deadline).toMillis();
+        if (delay < 0)
+        {
+            return null;
+        }
+        return executor.schedule(task, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancel(int world)
+    {
+        ScheduledFuture<?> red = redDeadlines.remove(world);
+        if (red != null)
+        {
+            red.cancel(false);
+        }
+
+        ScheduledFuture<?> eligible = eligibleDeadlines.remove(world);
+        if (eligible != null)
+        {
+            eligible.cancel(false);
+        }
+    }
+
+    private void saveWatchList()
+    {
+        StringJoiner joiner = new StringJoiner(",");
+        for (int world : watched)
+        {
+            joiner.add(Integer.toString(world));
+        }
+        configManager.setConfiguration("maledictus", WATCHED_WORLDS_KEY, joiner.toString());
+    }
+}
@@ -0,0 +1,85 @@
+package com.osrspluginz.maledictus;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures bytes allocated and wall time per operation on the calling thread, using the
+ * HotSpot {@link com.sun.management.ThreadMXBean} per-thread allocation counter.
+ */
+final class AllocationMeter
+{
+    /**
+     * Outcome of one measured run.
+     */
+    static final class Result
+    {
+        final String name;
+        final long bytesPerOp;
+        final long nanosPerOp;
+
+        Result(String name, long bytesPerOp, long nanosPerOp)
+        {
+            this.name = name;
+            this.bytesPerOp = bytesPerOp;
+            this.nanosPerOp = nanosPerOp;
+        }
+
+        @Override
+        public String toString()
+        {
+            return String.format("%s: %d B/op, %d ns/op", name, bytesPerOp, nanosPerOp);
+        }
+    }
+
+    private AllocationMeter()
+    {
+    }
+
+    /**
+     * Returns true if the running JVM can report per-thread allocated bytes.
+     */
+    static boolean isSupported()
+    {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean))
+        {
+            return false;
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemorySupported())
+        {
+            return false;
+        }
+        if (!threads.isThreadAllocatedMemoryEnabled())
+        {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        return true;
+    }
+
+    /**
+     * Runs the operation {@code warmup} times unmeasured, then {@code ops} times measured, all on the calling thread.
+     */
+    static Result measure(String name, int warmup, int ops, Runnable operation)
+    {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < warmup; i++)
+        {
+            operation.run();
+        }
+
+        long startBytes = threads.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < ops; i++)
+        {
+            operation.run();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - startBytes;
+
+        return new Result(name, allocated / ops, elapsedNanos / ops);
+    }
+}
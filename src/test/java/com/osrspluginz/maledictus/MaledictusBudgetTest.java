@@ -0,0 +1,296 @@
+package com.osrspluginz.maledictus;
+
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.client.chat.ChatMessageManager;
+import net.runelite.client.ui.overlay.OverlayPanel;
+import net.runelite.client.ui.overlay.components.LayoutableRenderableEntity;
+import net.runelite.client.ui.overlay.components.LineComponent;
+import net.runelite.client.util.ImageUtil;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.swing.SwingUtilities;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Allocation budgets for the per-second and per-frame paths, run under a fixed workload against a real
+ * plugin (mocks would allocate on every call). The defaults are the measured allocation plus a small margin;
+ * each can be overridden with a system property, e.g. {@code -Dmaledictus.budget.panel.bytes=4096}.
+ * Latency is only checked when a budget is given, e.g. {@code -Dmaledictus.budget.overlay.nanos=200000},
+ * as wall time depends on the machine. The Gradle build forwards {@code -Pmaledictus.*} project properties.
+ */
+public class MaledictusBudgetTest
+{
+    private static final int WORLD_COUNT = 200;
+    private static final int CURRENT_WORLD = 302;
+
+    // Default allocation budgets, bytes per operation (measured: format ~750, panel ~160K for 150 formatted rows, chat 0)
+    private static final long FORMAT_BYTES = 1024;
+    private static final long PANEL_BYTES = 192 * 1024;
+    private static final long CHAT_BYTES = 64;
+    private static final long RECORD_BYTES = 0;
+    // RuneLite's panel layout allocates every frame; this is what the overlay may add on top of it
+    private static final long OVERLAY_EXTRA_BYTES = 256;
+
+    private static SkullIconCache skullIcons;
+
+    private List<MaledictusPlugin.WorldTimer> timers;
+    private MaledictusPlugin plugin;
+
+    @BeforeClass
+    public static void loadIcons()
+    {
+        skullIcons = new SkullIconCache(
+                ImageUtil.loadImageResource(MaledictusBudgetTest.class, "/skullwhite.png"),
+                ImageUtil.loadImageResource(MaledictusBudgetTest.class, "/skullred.png"),
+                ImageUtil.loadImageResource(MaledictusBudgetTest.class, "/skullpanel.png"));
+    }
+
+    @Before
+    public void before() throws ReflectiveOperationException
+    {
+        assumeTrue("Per-thread allocation counters are not available on this JVM", AllocationMeter.isSupported());
+
+        // A spread of no data, white, red and eligible worlds
+        Instant now = Instant.now();
+        timers = new ArrayList<>(WORLD_COUNT);
+        Map<Integer, Instant> imported = new LinkedHashMap<>();
+        for (int i = 0; i < WORLD_COUNT; i++)
+        {
+            int world = CURRENT_WORLD + i;
+            Instant eligibleAt;
+            switch (i % 4)
+            {
+                case 0:
+                    eligibleAt = Instant.MIN;
+                    break;
+                case 1:
+                    eligibleAt = now.plusSeconds(1800 + i);
+                    break;
+                case 2:
+                    eligibleAt = now.plusSeconds(300 + i);
+                    break;
+                default:
+                    eligibleAt = now.minusSeconds(600 + i);
+                    break;
+            }
+            timers.add(new MaledictusPlugin.WorldTimer(world, eligibleAt));
+            if (eligibleAt != Instant.MIN)
+            {
+                imported.put(world, eligibleAt);
+            }
+        }
+
+        MaledictusConfig config = new MaledictusConfig()
+        {
+        };
+
+        plugin = new MaledictusPlugin();
+        inject(plugin, "client", fixedWorldClient());
+        inject(plugin, "config", config);
+        inject(plugin, "panel", new MaledictusPanel(plugin));
+        inject(plugin, "watchNotifier", new WorldWatchNotifier(null, null, null, config));
+        inject(plugin, "chatMessageManager", mock(ChatMessageManager.class));
+        inject(plugin, "skullIcons", skullIcons);
+        plugin.importTimers(imported);
+    }
+
+    @Test
+    public void worldTimerFormatting()
+    {
+        AtomicReference<String> sink = new AtomicReference<>();
+        int[] next = {0};
+
+        AllocationMeter.Result result = AllocationMeter.measure("format", 20_000, 100_000, () ->
+        {
+            MaledictusPlugin.WorldTimer timer = timers.get(next[0]++ % WORLD_COUNT);
+            sink.lazySet(timer.getDisplayText());
+        });
+
+        assertWithinBudget(result, FORMAT_BYTES);
+    }
+
+    @Test
+    public void overlayRender() throws ReflectiveOperationException
+    {
+        MaledictusOverlay overlay = new MaledictusOverlay(plugin, plugin.getClient());
+        BufferedImage frame = new BufferedImage(765, 503, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = frame.createGraphics();
+        try
+        {
+            // Baseline: RuneLite rendering the same components, re-added every frame like the overlay does
+            overlay.render(graphics);
+            List<LayoutableRenderableEntity> children = new ArrayList<>();
+            children.add(skullIcons.getOverlayComponent(SkullIconCache.Skull.WHITE));
+            children.add((LineComponent) field(overlay, "currentWorldLine"));
+            LineComponent[] worldLines = (LineComponent[]) field(overlay, "worldLines");
+            for (int i = 0; i < (int) field(overlay, "listedWorlds"); i++)
+            {
+                children.add(worldLines[i]);
+            }
+
+            OverlayPanel baseline = new OverlayPanel()
+            {
+                @Override
+                public Dimension render(Graphics2D graphics)
+                {
+                    for (LayoutableRenderableEntity child : children)
+                    {
+                        panelComponent.getChildren().add(child);
+                    }
+                    return super.render(graphics);
+                }
+            };
+
+            AllocationMeter.Result layout = AllocationMeter.measure("overlay-layout", 2_000, 10_000, () -> baseline.render(graphics));
+            AllocationMeter.Result result = AllocationMeter.measure("overlay", 2_000, 10_000, () -> overlay.render(graphics));
+            assertWithinBudget(result, layout.bytesPerOp + OVERLAY_EXTRA_BYTES);
+        }
+        finally
+        {
+            graphics.dispose();
+        }
+    }
+
+    @Test
+    public void panelRefresh() throws Exception
+    {
+        // Swing components must be created and refreshed on the EDT, so the whole measurement runs there
+        AtomicReference<AllocationMeter.Result> result = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() ->
+        {
+            MaledictusPanel panel = new MaledictusPanel(plugin);
+            panel.onActivate();
+            result.set(AllocationMeter.measure("panel", 50, 200, panel::updatePanel));
+        });
+
+        assertWithinBudget(result.get(), PANEL_BYTES);
+    }
+
+    @Test
+    public void chatMatching()
+    {
+        // Mostly unrelated chatter, with the occasional spawn announcement and hop block
+        List<ChatMessage> workload = new ArrayList<>();
+        for (int i = 0; i < 1000; i++)
+        {
+            String message;
+            ChatMessageType type = ChatMessageType.GAMEMESSAGE;
+            if (i == 0)
+            {
+                message = "A superior revenant has been awoken somewhere in the caves.";
+            }
+            else if (i == 500)
+            {
+                message = "Please finish what you're doing before using the World Switcher.";
+            }
+            else if (i % 3 == 0)
+            {
+                message = "Player" + i + ": anyone seen a superior?";
+                type = ChatMessageType.PUBLICCHAT;
+            }
+            else
+            {
+                message = "You have killed a revenant goblin. Your kill count is " + i + ".";
+            }
+            workload.add(new ChatMessage(null, type, "", message, "", 0));
+        }
+        Collections.shuffle(workload, new Random(37));
+
+        int[] next = {0};
+        AllocationMeter.Result result = AllocationMeter.measure("chat", 10_000, 100_000,
+                () -> plugin.onChatMessage(workload.get(next[0]++ % workload.size())));
+
+        assertWithinBudget(result, CHAT_BYTES);
+    }
+
+    @Test
+    public void eventRecording()
+    {
+        SpawnEventRecorder recorder = new SpawnEventRecorder();
+        int[] next = {0};
+
+        // More events than the ring holds, so the measured run also overwrites old records
+        AllocationMeter.Result result = AllocationMeter.measure("record", 10_000, 100_000, () ->
+        {
+            int i = next[0]++;
+            recorder.record(SpawnEventRecorder.Type.HOP_REQUESTED, SpawnEventRecorder.Source.PANEL, CURRENT_WORLD + i % WORLD_COUNT, i);
+        });
+
+        assertWithinBudget(result, RECORD_BYTES);
+    }
+
+    /**
+     * A logged in client on {@link #CURRENT_WORLD}, called from its own client thread.
+     */
+    private static Client fixedWorldClient()
+    {
+        return (Client) Proxy.newProxyInstance(MaledictusBudgetTest.class.getClassLoader(), new Class<?>[]{Client.class},
+                (proxy, method, args) ->
+                {
+                    switch (method.getName())
+                    {
+                        case "getWorld":
+                            return CURRENT_WORLD;
+                        case "getGameState":
+                            return GameState.LOGGED_IN;
+                        case "isClientThread":
+                            return true;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            Class<?> type = method.getReturnType();
+                            return type == boolean.class ? false : type.isPrimitive() && type != void.class ? 0 : null;
+                    }
+                });
+    }
+
+    private static Object field(Object target, String name) throws ReflectiveOperationException
+    {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+
+    private static void inject(Object target, String name, Object value) throws ReflectiveOperationException
+    {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    private static void assertWithinBudget(AllocationMeter.Result result, long defaultBytes)
+    {
+        long bytesBudget = Long.getLong("maledictus.budget." + result.name + ".bytes", defaultBytes);
+        Long nanosBudget = Long.getLong("maledictus.budget." + result.name + ".nanos");
+        System.out.println(result + " (budget " + bytesBudget + " B/op" + (nanosBudget != null ? ", " + nanosBudget + " ns/op)" : ")"));
+
+        assertTrue(result + " exceeds the allocation budget of " + bytesBudget + " B/op", result.bytesPerOp <= bytesBudget);
+        if (nanosBudget != null)
+        {
+            assertTrue(result + " exceeds the latency budget of " + nanosBudget + " ns/op", result.nanosPerOp <= nanosBudget);
+        }
+    }
+}
@@ -0,0 +1,591 @@
+package com.osrspluginz.maledictus;
+
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.widgets.ComponentID;
+import net.runelite.api.widgets.Widget;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.chat.ChatMessageManager;
+import net.runelite.client.game.WorldService;
+import net.runelite.http.api.worlds.World;
+import net.runelite.http.api.worlds.WorldResult;
+import net.runelite.http.api.worlds.WorldType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.swing.SwingUtilities;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Stress tests for the timer store, the panel model and the hop request path, driven from the same thread
+ * roles as in the client: the client thread (a single-threaded executor standing in for it), the Swing EDT,
+ * and a scheduler thread. Each test prints its throughput so store changes can be compared run to run
+ * (the Gradle build shows it with {@code -Pmaledictus.report}).
+ */
+public class MaledictusConcurrencyTest
+{
+    private static final int CURRENT_WORLD = 301;
+    private static final long TIMEOUT_SECONDS = 60;
+
+    private ExecutorService clientThread;
+    private volatile Thread clientThreadRef;
+    private final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+    private Thread.UncaughtExceptionHandler previousHandler;
+
+    @Before
+    public void before()
+    {
+        clientThread = Executors.newSingleThreadExecutor(r ->
+        {
+            Thread thread = new Thread(r, "Client");
+            clientThreadRef = thread;
+            return thread;
+        });
+
+        // Exceptions thrown on the EDT or the client thread would otherwise only be logged
+        previousHandler = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, ex) -> failures.add(ex));
+    }
+
+    @After
+    public void after() throws InterruptedException
+    {
+        clientThread.shutdownNow();
+        clientThread.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Thread.setDefaultUncaughtExceptionHandler(previousHandler);
+    }
+
+    /**
+     * Several producers queue commands while one thread drains and another reads snapshots. Commands of one
+     * producer must apply in the order they were offered, none may be lost or run twice, and readers must
+     * never see a world's timer or the snapshot version go backwards.
+     */
+    @Test
+    public void timerStoreCommands() throws Exception
+    {
+        final int producers = 4;
+        final int commandsPerProducer = 100_000;
+        final int firstWorld = 302;
+
+        TimerStore store = new TimerStore();
+        long[] applied = new long[producers]; // writer thread only
+        AtomicBoolean outOfOrder = new AtomicBoolean();
+        AtomicBoolean readerRegressed = new AtomicBoolean();
+        AtomicLong reads = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean done = new AtomicBoolean();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++)
+        {
+            final int producer = p;
+            threads.add(new Thread(() ->
+            {
+                await(start);
+                for (int i = 1; i <= commandsPerProducer; i++)
+                {
+                    final long value = i;
+                    final MaledictusPlugin.WorldTimer timer = new MaledictusPlugin.WorldTimer(firstWorld + producer, Instant.ofEpochSecond(value));
+                    Runnable command = () ->
+                    {
+                        if (applied[producer] + 1 != value)
+                        {
+                            outOfOrder.set(true);
+                        }
+                        applied[producer] = value;
+                        store.put(timer);
+                    };
+                    // Producers outrun the writer, so this also runs commands through the overflow
+                    store.enqueue(command);
+                }
+            }, "Producer-" + p));
+        }
+
+        Thread writer = new Thread(() ->
+        {
+            await(start);
+            long total = (long) producers * commandsPerProducer;
+            while (sum(applied) < total)
+            {
+                store.drain();
+            }
+        }, "Writer");
+
+        Thread reader = new Thread(() ->
+        {
+            await(start);
+            long[] lastSeen = new long[producers];
+            int lastVersion = 0;
+            while (!done.get())
+            {
+                TimerStore.Snapshot snapshot = store.getSnapshot();
+                if (snapshot.getVersion() < lastVersion)
+                {
+                    readerRegressed.set(true);
+                }
+                lastVersion = snapshot.getVersion();
+
+                for (MaledictusPlugin.WorldTimer timer : snapshot.getTimers())
+                {
+                    int producer = timer.getWorld() - firstWorld;
+                    long value = timer.getNextSpawn().getEpochSecond();
+                    if (value < lastSeen[producer])
+                    {
+                        readerRegressed.set(true);
+                    }
+                    lastSeen[producer] = value;
+                }
+                reads.incrementAndGet();
+                Thread.yield();
+            }
+        }, "Reader");
+
+        threads.add(writer);
+        threads.add(reader);
+        threads.forEach(Thread::start);
+
+        long startNanos = System.nanoTime();
+        start.countDown();
+        writer.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        long elapsedNanos = System.nanoTime() - startNanos;
+        done.set(true);
+        for (Thread thread : threads)
+        {
+            thread.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        }
+
+        assertFalse("Writer did not finish", writer.isAlive());
+        assertFalse("A producer's commands were applied out of order", outOfOrder.get());
+        assertFalse("A reader saw a timer or version go backwards", readerRegressed.get());
+        for (int p = 0; p < producers; p++)
+        {
+            assertEquals(commandsPerProducer, applied[p]);
+            assertEquals(commandsPerProducer, store.getSnapshot().get(firstWorld + p).getNextSpawn().getEpochSecond());
+        }
+
+        report("store", (long) producers * commandsPerProducer, elapsedNanos,
+                "snapshots " + store.getSnapshot().getVersion() + ", reads " + reads.get());
+    }
+
+    /**
+     * Manual timers from the EDT and spawn broadcasts on the client thread race with a scheduler thread
+     * reading every timer, while each published snapshot refreshes a live panel. The last write to every
+     * world must win and readers must only ever see timers move forward.
+     */
+    @Test
+    public void timerWritesFromThreadRoles() throws Exception
+    {
+        final int edtFirstWorld = 302;
+        final int edtWorlds = 50;
+        final int edtRounds = 200;
+        final int manualMinutes = 30;
+        final int clientFirstWorld = 400;
+        final int clientWorlds = 10;
+        final int clientRounds = 100;
+        final Instant base = Instant.parse("2025-01-01T00:00:00Z");
+
+        Client client = mockClient();
+        MaledictusPlugin plugin = newPlugin(client, mockClientThread());
+
+        // A live panel, so every published snapshot is also rendered into the panel model on the EDT
+        Set<Integer> refreshedWorlds = ConcurrentHashMap.newKeySet();
+        MaledictusPanel[] panel = new MaledictusPanel[1];
+        SwingUtilities.invokeAndWait(() ->
+        {
+            panel[0] = new MaledictusPanel(plugin)
+            {
+                @Override
+                public void updatePanel()
+                {
+                    super.updatePanel();
+                    for (MaledictusPlugin.WorldTimer timer : plugin.getAllWorldTimers())
+                    {
+                        refreshedWorlds.add(timer.getWorld());
+                    }
+                }
+            };
+            panel[0].onActivate();
+        });
+        inject(plugin, "panel", panel[0]);
+
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicBoolean readerRegressed = new AtomicBoolean();
+        AtomicLong reads = new AtomicLong();
+        Instant[] lastEdtRoundStart = new Instant[1];
+
+        Thread edtDriver = new Thread(() ->
+        {
+            for (int round = 0; round < edtRounds; round++)
+            {
+                lastEdtRoundStart[0] = Instant.now();
+                invokeAndWait(() ->
+                {
+                    for (int w = 0; w < edtWorlds; w++)
+                    {
+                        plugin.setManualTimer(edtFirstWorld + w, manualMinutes);
+                    }
+                });
+            }
+        }, "EDT driver");
+
+        Thread clientDriver = new Thread(() ->
+        {
+            for (int round = 1; round <= clientRounds; round++)
+            {
+                final int seconds = round;
+                runOnClientThread(() ->
+                {
+                    for (int w = 0; w < clientWorlds; w++)
+                    {
+                        plugin.setMaledictusEligibility(clientFirstWorld + w, base.plusSeconds(seconds));
+                    }
+                });
+            }
+        }, "Client driver");
+
+        Thread scheduler = new Thread(() ->
+        {
+            Map<Integer, Instant> lastSeen = new HashMap<>();
+            int lastVersion = 0;
+            while (!done.get())
+            {
+                TimerStore.Snapshot snapshot = plugin.getTimerSnapshot();
+                int version = snapshot.getVersion();
+                if (version < lastVersion)
+                {
+                    readerRegressed.set(true);
+                }
+                lastVersion = version;
+
+                for (MaledictusPlugin.WorldTimer timer : snapshot.getTimers())
+                {
+                    Instant previous = lastSeen.put(timer.getWorld(), timer.getNextSpawn());
+                    if (previous != null && timer.getNextSpawn().isBefore(previous))
+                    {
+                        readerRegressed.set(true);
+                    }
+                }
+                plugin.updateTimers();
+                reads.incrementAndGet();
+                Thread.yield();
+            }
+        }, "Scheduler");
+
+        long startNanos = System.nanoTime();
+        scheduler.start();
+        edtDriver.start();
+        clientDriver.start();
+        edtDriver.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        clientDriver.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        // Let the queued drain and the panel refreshes it triggered finish
+        runOnClientThread(() -> { });
+        invokeAndWait(() -> { });
+        done.set(true);
+        scheduler.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+
+        assertTrue("Uncaught exceptions: " + failures, failures.isEmpty());
+        assertFalse("A reader saw a timer or version go backwards", readerRegressed.get());
+        assertEquals(edtWorlds + clientWorlds, plugin.getAllWorldTimers().size());
+
+        Instant earliestLastManual = lastEdtRoundStart[0].plusSeconds(manualMinutes * 60L);
+        for (int w = 0; w < edtWorlds; w++)
+        {
+            Instant eligibleAt = plugin.getWorldTimer(edtFirstWorld + w).getNextSpawn();
+            assertFalse("W" + (edtFirstWorld + w) + " lost its last manual timer", eligibleAt.isBefore(earliestLastManual));
+        }
+        for (int w = 0; w < clientWorlds; w++)
+        {
+            assertEquals(base.plusSeconds(clientRounds).plus(MaledictusPlugin.RESET_TIMER),
+                    plugin.getWorldTimer(clientFirstWorld + w).getNextSpawn());
+        }
+
+        // With the client driver done, a timer set on the EDT alone must still be drained into a panel refresh
+        int lateWorld = edtFirstWorld + edtWorlds;
+        invokeAndWait(() -> plugin.setManualTimer(lateWorld, manualMinutes));
+        runOnClientThread(() -> { });
+        invokeAndWait(() -> { });
+        assertTrue("W" + lateWorld + " was never refreshed into the panel", refreshedWorlds.contains(lateWorld));
+        for (int w = 0; w < edtWorlds; w++)
+        {
+            assertTrue("W" + (edtFirstWorld + w) + " was never refreshed into the panel", refreshedWorlds.contains(edtFirstWorld + w));
+        }
+
+        report("thread roles", (long) edtWorlds * edtRounds + (long) clientWorlds * clientRounds, elapsedNanos,
+                "snapshots " + plugin.getTimerSnapshot().getVersion() + ", scheduler reads " + reads.get());
+    }
+
+    /**
+     * Hop requests from the EDT race with game ticks on the client thread, with the world switcher only open
+     * on every other tick. Only requested worlds may be hopped to, the last request must win, and once a hop
+     * has executed the hop state must be cleared.
+     */
+    @Test
+    public void hopRequests() throws Exception
+    {
+        final int requests = 5_000;
+        final int firstTarget = 302;
+        final int targets = 100;
+
+        Client client = mockClient();
+        AtomicInteger ticks = new AtomicInteger();
+        Widget worldList = mock(Widget.class);
+        when(client.getWidget(ComponentID.WORLD_SWITCHER_WORLD_LIST)).thenAnswer(inv -> ticks.get() % 2 == 0 ? worldList : null);
+        when(client.createWorld()).thenAnswer(inv -> fakeWorld());
+
+        List<Integer> hops = new CopyOnWriteArrayList<>();
+        doAnswer(inv ->
+        {
+            net.runelite.api.World world = inv.getArgument(0);
+            hops.add(world.getId());
+            return null;
+        }).when(client).hopToWorld(any(net.runelite.api.World.class));
+
+        WorldResult worldResult = mock(WorldResult.class);
+        when(worldResult.findWorld(anyInt())).thenAnswer(inv -> World.builder()
+                .id(inv.getArgument(0))
+                .types(EnumSet.noneOf(WorldType.class))
+                .build());
+        WorldService worldService = mock(WorldService.class);
+        when(worldService.getWorlds()).thenReturn(worldResult);
+
+        MaledictusPlugin plugin = newPlugin(client, mockClientThread());
+        inject(plugin, "worldService", worldService);
+        when(plugin.getConfig().isWorldHopperEnabled()).thenReturn(true);
+
+        AtomicBoolean done = new AtomicBoolean();
+        Thread ticker = new Thread(() ->
+        {
+            GameTick tick = new GameTick();
+            while (!done.get())
+            {
+                runOnClientThread(() ->
+                {
+                    plugin.onGameTick(tick);
+                    ticks.incrementAndGet();
+                });
+            }
+        }, "Ticker");
+
+        int lastTarget = firstTarget + (requests - 1) % targets;
+        long startNanos = System.nanoTime();
+        ticker.start();
+        for (int i = 0; i < requests; i++)
+        {
+            final int target = firstTarget + i % targets;
+            SwingUtilities.invokeLater(() -> plugin.hopTo(target));
+        }
+        invokeAndWait(() -> { });
+        long elapsedNanos = System.nanoTime() - startNanos;
+        done.set(true);
+        ticker.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+
+        // Drain the last requests, then tick until the final target has been hopped to (the switcher opens every other tick)
+        runOnClientThread(() -> { });
+        for (int i = 0; i < 4 && (hops.isEmpty() || hops.get(hops.size() - 1) != lastTarget); i++)
+        {
+            runOnClientThread(() ->
+            {
+                plugin.onGameTick(new GameTick());
+                ticks.incrementAndGet();
+            });
+        }
+
+        assertTrue("Uncaught exceptions: " + failures, failures.isEmpty());
+        assertFalse("No hop executed", hops.isEmpty());
+        assertTrue("More hops than requests", hops.size() <= requests);
+
+        Set<Integer> requested = new HashSet<>();
+        for (int i = 0; i < targets; i++)
+        {
+            requested.add(firstTarget + i);
+        }
+        for (int world : hops)
+        {
+            assertTrue("Hopped to W" + world + " which was never requested", requested.contains(world));
+        }
+        assertEquals("The last request did not win", lastTarget, (int) hops.get(hops.size() - 1));
+
+        // The hop state is cleared once executed: further ticks with the switcher open do nothing
+        int hopCount = hops.size();
+        for (int i = 0; i < 4; i++)
+        {
+            runOnClientThread(() ->
+            {
+                plugin.onGameTick(new GameTick());
+                ticks.incrementAndGet();
+            });
+        }
+        assertEquals(hopCount, hops.size());
+
+        report("hop requests", requests, elapsedNanos, "hops " + hopCount + ", ticks " + ticks.get());
+    }
+
+    // --- HARNESS ---
+
+    private Client mockClient()
+    {
+        Client client = mock(Client.class);
+        when(client.isClientThread()).thenAnswer(inv -> Thread.currentThread() == clientThreadRef);
+        when(client.getWorld()).thenReturn(CURRENT_WORLD);
+        when(client.getGameState()).thenReturn(GameState.LOGGED_IN);
+        return client;
+    }
+
+    /**
+     * A ClientThread whose invokeLater runs on the test's client thread executor.
+     */
+    private ClientThread mockClientThread()
+    {
+        ClientThread mock = mock(ClientThread.class);
+        doAnswer(inv ->
+        {
+            Runnable runnable = inv.getArgument(0);
+            clientThread.execute(runnable);
+            return null;
+        }).when(mock).invokeLater(any(Runnable.class));
+        return mock;
+    }
+
+    private MaledictusPlugin newPlugin(Client client, ClientThread mockClientThread) throws ReflectiveOperationException
+    {
+        MaledictusPlugin plugin = new MaledictusPlugin();
+        inject(plugin, "client", client);
+        inject(plugin, "clientThread", mockClientThread);
+        inject(plugin, "config", mock(MaledictusConfig.class, CALLS_REAL_METHODS));
+        inject(plugin, "panel", mock(MaledictusPanel.class));
+        inject(plugin, "watchNotifier", mock(WorldWatchNotifier.class));
+        inject(plugin, "chatMessageManager", mock(ChatMessageManager.class));
+        return plugin;
+    }
+
+    private void runOnClientThread(Runnable runnable)
+    {
+        try
+        {
+            clientThread.submit(runnable).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        catch (Exception ex)
+        {
+            failures.add(ex);
+        }
+    }
+
+    private void invokeAndWait(Runnable runnable)
+    {
+        try
+        {
+            SwingUtilities.invokeAndWait(runnable);
+        }
+        catch (Exception ex)
+        {
+            failures.add(ex);
+        }
+    }
+
+    /**
+     * A client world that just remembers what was set on it, like the one returned by Client.createWorld().
+     */
+    private static net.runelite.api.World fakeWorld()
+    {
+        Map<String, Object> properties = new HashMap<>();
+        return (net.runelite.api.World) Proxy.newProxyInstance(MaledictusConcurrencyTest.class.getClassLoader(),
+                new Class<?>[]{net.runelite.api.World.class}, (proxy, method, args) ->
+                {
+                    String name = method.getName();
+                    if (name.startsWith("set") && args != null && args.length == 1)
+                    {
+                        properties.put(name.substring(3), args[0]);
+                        return null;
+                    }
+                    if (name.startsWith("get"))
+                    {
+                        Object value = properties.get(name.substring(3));
+                        if (value == null && method.getReturnType() == int.class)
+                        {
+                            return 0;
+                        }
+                        return value;
+                    }
+                    switch (name)
+                    {
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "World" + properties;
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    private static void inject(Object target, String name, Object value) throws ReflectiveOperationException
+    {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    private static void await(CountDownLatch latch)
+    {
+        try
+        {
+            latch.await();
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long sum(long[] values)
+    {
+        long sum = 0;
+        for (long value : values)
+        {
+            sum += value;
+        }
+        return sum;
+    }
+
+    private static void report(String name, long operations, long elapsedNanos, String details)
+    {
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("%s: %d ops in %.1f ms, %.0f ops/s (%s)%n", name, operations, seconds * 1000, operations / seconds, details);
+    }
+}
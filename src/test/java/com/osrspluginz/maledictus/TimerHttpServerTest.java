@@ -0,0 +1,238 @@
+package com.osrspluginz.maledictus;
+
+import net.runelite.api.Client;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.events.ConfigChanged;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TimerHttpServerTest
+{
+    private static final int TIMEOUT_MILLIS = 5000;
+
+    private final TimerStore store = new TimerStore();
+    private final TimerHttpServer server = new TimerHttpServer(store::getSnapshot);
+
+    @Before
+    public void before() throws IOException
+    {
+        store.put(new MaledictusPlugin.WorldTimer(302, Instant.ofEpochMilli(1_760_000_000_000L)));
+        store.put(new MaledictusPlugin.WorldTimer(303, Instant.MIN));
+        store.publish();
+        server.start(0);
+    }
+
+    @After
+    public void after()
+    {
+        server.stop();
+    }
+
+    @Test
+    public void timersReturnsJson() throws IOException
+    {
+        HttpURLConnection connection = open("/timers");
+        assertEquals(200, connection.getResponseCode());
+        assertTrue(connection.getContentType().startsWith("application/json"));
+
+        try (BufferedReader reader = reader(connection))
+        {
+            assertEquals("{\"version\":1,\"worlds\":[{\"world\":302,\"eligibleAt\":1760000000000},{\"world\":303,\"eligibleAt\":null}]}",
+                    reader.readLine());
+        }
+    }
+
+    @Test
+    public void postIsRejected() throws IOException
+    {
+        HttpURLConnection connection = open("/timers");
+        connection.setRequestMethod("POST");
+        assertEquals(405, connection.getResponseCode());
+    }
+
+    @Test
+    public void eventsStreamsInitialAndPublishedFrames() throws IOException
+    {
+        HttpURLConnection connection = open("/events");
+        assertEquals(200, connection.getResponseCode());
+
+        try (BufferedReader reader = reader(connection))
+        {
+            assertEquals("1", readEventId(reader));
+
+            store.put(new MaledictusPlugin.WorldTimer(330, Instant.ofEpochMilli(1_760_000_600_000L)));
+            store.publish();
+            server.publish(store.getSnapshot());
+
+            assertEquals("2", readEventId(reader));
+        }
+    }
+
+    @Test
+    public void eventsStreamPluginTimers() throws Exception
+    {
+        // Timers set off the client thread are drained on it, then pushed to the plugin's server
+        ExecutorService clientThreadExecutor = Executors.newSingleThreadExecutor();
+        ClientThread clientThread = new ClientThread()
+        {
+            @Override
+            public void invokeLater(Runnable runnable)
+            {
+                clientThreadExecutor.execute(runnable);
+            }
+        };
+        MaledictusConfig config = new MaledictusConfig()
+        {
+            @Override
+            public boolean httpServerEnabled()
+            {
+                return true;
+            }
+
+            @Override
+            public int httpServerPort()
+            {
+                return 0;
+            }
+        };
+
+        MaledictusPlugin plugin = new MaledictusPlugin();
+        inject(plugin, "client", otherThreadClient());
+        inject(plugin, "clientThread", clientThread);
+        inject(plugin, "config", config);
+        inject(plugin, "panel", new MaledictusPanel(plugin));
+        inject(plugin, "watchNotifier", new WorldWatchNotifier(null, null, null, config));
+
+        ConfigChanged enabled = new ConfigChanged();
+        enabled.setGroup("maledictus");
+        enabled.setKey("httpServerEnabled");
+        plugin.onConfigChanged(enabled);
+        TimerHttpServer pluginServer = (TimerHttpServer) field(plugin, "httpServer");
+        try
+        {
+            HttpURLConnection connection = open(pluginServer, "/events");
+            assertEquals(200, connection.getResponseCode());
+
+            try (BufferedReader reader = reader(connection))
+            {
+                assertEquals("0", readEventId(reader));
+
+                plugin.setManualTimer(330, 30);
+                assertEquals("1", readEventId(reader));
+
+                Map<Integer, Instant> imported = new HashMap<>();
+                imported.put(302, Instant.ofEpochMilli(1_760_000_000_000L));
+                imported.put(416, Instant.ofEpochMilli(1_760_000_600_000L));
+                plugin.importTimers(imported);
+                assertEquals("2", readEventId(reader));
+            }
+        }
+        finally
+        {
+            pluginServer.stop();
+            clientThreadExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void unchangedVersionReusesBytes()
+    {
+        TimerHttpServer.Serialized first = server.serialize(store.getSnapshot());
+        TimerHttpServer.Serialized second = server.serialize(store.getSnapshot());
+
+        assertSame(first.json, second.json);
+        assertSame(first.event, second.event);
+    }
+
+    private HttpURLConnection open(String path) throws IOException
+    {
+        return open(server, path);
+    }
+
+    private static HttpURLConnection open(TimerHttpServer server, String path) throws IOException
+    {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://127.0.0.1:" + server.getPort() + path).openConnection();
+        connection.setConnectTimeout(TIMEOUT_MILLIS);
+        connection.setReadTimeout(TIMEOUT_MILLIS);
+        return connection;
+    }
+
+    private static BufferedReader reader(HttpURLConnection connection) throws IOException
+    {
+        return new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * A client that is never called from its own client thread.
+     */
+    private static Client otherThreadClient()
+    {
+        return (Client) Proxy.newProxyInstance(TimerHttpServerTest.class.getClassLoader(), new Class<?>[]{Client.class},
+                (proxy, method, args) ->
+                {
+                    switch (method.getName())
+                    {
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            Class<?> type = method.getReturnType();
+                            return type == boolean.class ? false : type.isPrimitive() && type != void.class ? 0 : null;
+                    }
+                });
+    }
+
+    private static Object field(Object target, String name) throws ReflectiveOperationException
+    {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+
+    private static void inject(Object target, String name, Object value) throws ReflectiveOperationException
+    {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    // Reads up to the end of the next timers event and returns its id
+    private static String readEventId(BufferedReader reader) throws IOException
+    {
+        String id = null;
+        for (String line = reader.readLine(); line != null; line = reader.readLine())
+        {
+            if (line.startsWith("id: "))
+            {
+                id = line.substring(4);
+            }
+            else if (line.isEmpty() && id != null)
+            {
+                return id;
+            }
+        }
+        assertNotNull("Stream ended before an event", id);
+        return id;
+    }
+}
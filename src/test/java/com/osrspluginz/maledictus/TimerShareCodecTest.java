@@ -0,0 +1,149 @@
+package com.osrspluginz.maledictus;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TimerShareCodecTest
+{
+    private static final Instant NOW = Instant.ofEpochSecond(1_760_000_000L);
+
+    // --- FREE TEXT ---
+
+    @Test
+    public void parsesChatExample()
+    {
+        Map<Integer, Instant> expected = new LinkedHashMap<>();
+        expected.put(302, NOW.plusSeconds(12 * 60));
+        expected.put(330, NOW.plusSeconds(40 * 60));
+        expected.put(416, NOW.minusSeconds(3 * 60));
+
+        assertEquals(expected, TimerShareCodec.parse("W302 12m, W330 40m, W416 +3m", NOW));
+    }
+
+    @Test
+    public void parsesElapsedTime()
+    {
+        assertEquals(NOW.minusSeconds(3 * 60), TimerShareCodec.parse("W416 +3m", NOW).get(416));
+    }
+
+    @Test
+    public void parsesMinutesAndSeconds()
+    {
+        assertEquals(NOW.plusSeconds(12 * 60 + 30), TimerShareCodec.parse("W302 12:30", NOW).get(302));
+        assertEquals(NOW.plusSeconds(12 * 60 + 30), TimerShareCodec.parse("W302 12m30s", NOW).get(302));
+
+        // The seconds must not be taken as the next world
+        Map<Integer, Instant> timers = TimerShareCodec.parse("W302 12:30 W330 40", NOW);
+        assertEquals(2, timers.size());
+        assertEquals(NOW.plusSeconds(40 * 60), timers.get(330));
+    }
+
+    @Test
+    public void parsesHours()
+    {
+        assertEquals(NOW.minusSeconds(3600), TimerShareCodec.parse("W416 +1h", NOW).get(416));
+        assertEquals(NOW.minusSeconds(3600 + 5 * 60), TimerShareCodec.parse("W416 +1h5m", NOW).get(416));
+
+        // More than the 45 minute reset, so not a valid timer rather than 1 minute
+        assertTrue(TimerShareCodec.parse("W302 1h", NOW).isEmpty());
+    }
+
+    @Test
+    public void skipsTimeWithoutWorld()
+    {
+        assertTrue(TimerShareCodec.parse("12:30", NOW).isEmpty());
+        assertTrue(TimerShareCodec.parse("12m", NOW).isEmpty());
+    }
+
+    @Test
+    public void skipsOutOfRangeEntries()
+    {
+        Map<Integer, Instant> timers = TimerShareCodec.parse("W302 46m, W2000 10m, W330 12:75, W416 10m", NOW);
+        assertEquals(1, timers.size());
+        assertEquals(NOW.plusSeconds(10 * 60), timers.get(416));
+    }
+
+    // --- SHARE CODES ---
+
+    @Test
+    public void roundTrip()
+    {
+        List<MaledictusPlugin.WorldTimer> timers = new ArrayList<>();
+        timers.add(new MaledictusPlugin.WorldTimer(330, NOW.plusSeconds(40 * 60)));
+        timers.add(new MaledictusPlugin.WorldTimer(302, NOW.plusSeconds(12 * 60 + 30)));
+        timers.add(new MaledictusPlugin.WorldTimer(416, NOW.minusSeconds(3 * 60)));
+        timers.add(new MaledictusPlugin.WorldTimer(303, Instant.MIN));
+
+        String code = TimerShareCodec.encode(timers, NOW);
+        assertTrue(code.startsWith(TimerShareCodec.SHARE_CODE_PREFIX));
+
+        Map<Integer, Instant> expected = new LinkedHashMap<>();
+        expected.put(302, NOW.plusSeconds(12 * 60 + 30));
+        expected.put(330, NOW.plusSeconds(40 * 60));
+        expected.put(416, NOW.minusSeconds(3 * 60));
+
+        // Absolute times, so a later import gives the same result
+        assertEquals(expected, TimerShareCodec.parse(code, NOW.plusSeconds(600)));
+        assertEquals(expected, TimerShareCodec.parse("  " + code.toLowerCase().substring(0, 5) + code.substring(5) + "\n", NOW));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsTruncatedCode()
+    {
+        // Export time, one entry (W302, +600s) missing the last byte of its offset
+        TimerShareCodec.parse(code(0, 1, 0xAE, 0x02, 0xB0), NOW);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsTrailingData()
+    {
+        // Export time, one entry (W302, +600s), then a stray byte
+        TimerShareCodec.parse(code(0, 1, 0xAE, 0x02, 0xB0, 0x09, 0x00), NOW);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsOutOfRangeWorld()
+    {
+        // World 2000
+        TimerShareCodec.parse(code(0, 1, 0xD0, 0x0F, 0x00), NOW);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsOutOfRangeOffset()
+    {
+        // W302 eligible in two days
+        TimerShareCodec.parse(code(0, 1, 0xAE, 0x02, 0x80, 0x8C, 0x15), NOW);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsMinimumOffset()
+    {
+        // W302 with the zig-zag offset of Long.MIN_VALUE
+        TimerShareCodec.parse(code(0, 1, 0xAE, 0x02, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0x01), NOW);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvalidBase64()
+    {
+        TimerShareCodec.parse(TimerShareCodec.SHARE_CODE_PREFIX + "***", NOW);
+    }
+
+    private static String code(int... bytes)
+    {
+        byte[] data = new byte[bytes.length];
+        for (int i = 0; i < bytes.length; i++)
+        {
+            data[i] = (byte) bytes[i];
+        }
+        return TimerShareCodec.SHARE_CODE_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(data);
+    }
+}
@@ -0,0 +1,54 @@
+package com.osrspluginz.maledictus;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class WorldIndexTest
+{
+    private static final Instant NOW = Instant.ofEpochSecond(1_760_000_000L);
+    private static final long RED = MaledictusPlugin.TIME_RED_THRESHOLD_SECS;
+
+    @Test
+    public void statesFollowTruncatedSecondsLeft()
+    {
+        // Fractions of a second either side of each boundary; secondsLeft() truncates them away
+        assertState(WorldIndex.StateFilter.WHITE, NOW.plusSeconds(RED + 1));
+        assertState(WorldIndex.StateFilter.RED, NOW.plusSeconds(RED + 1).minusMillis(1));
+        assertState(WorldIndex.StateFilter.RED, NOW.plusSeconds(RED));
+        assertState(WorldIndex.StateFilter.RED, NOW.plusSeconds(1));
+        assertState(WorldIndex.StateFilter.ELIGIBLE, NOW.plusMillis(999));
+        assertState(WorldIndex.StateFilter.ELIGIBLE, NOW.minusSeconds(60));
+        assertState(WorldIndex.StateFilter.NO_DATA, Instant.MIN);
+    }
+
+    @Test
+    public void transitionIsWhenTheStateChanges()
+    {
+        WorldIndex index = new WorldIndex();
+        List<MaledictusPlugin.WorldTimer> timers = List.of(new MaledictusPlugin.WorldTimer(302, NOW.plusSeconds(RED + 10)));
+
+        assertEquals(1, filter(index, timers, NOW, WorldIndex.StateFilter.WHITE).cardinality());
+        Instant transition = index.getNextTransition();
+
+        assertEquals(1, filter(index, timers, transition.minusNanos(1), WorldIndex.StateFilter.WHITE).cardinality());
+        assertEquals(1, filter(index, timers, transition, WorldIndex.StateFilter.RED).cardinality());
+    }
+
+    private static void assertState(WorldIndex.StateFilter expected, Instant eligibleAt)
+    {
+        MaledictusPlugin.WorldTimer timer = new MaledictusPlugin.WorldTimer(302, eligibleAt);
+        BitSet worlds = filter(new WorldIndex(), List.of(timer), NOW, expected);
+        assertTrue(eligibleAt + " is not " + expected, worlds.get(302));
+    }
+
+    private static BitSet filter(WorldIndex index, List<MaledictusPlugin.WorldTimer> timers, Instant now, WorldIndex.StateFilter state)
+    {
+        return index.filter(timers, 1, now, WorldIndex.TypeFilter.ALL, state, "");
+    }
+}